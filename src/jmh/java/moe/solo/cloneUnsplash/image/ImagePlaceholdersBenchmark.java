@@ -0,0 +1,66 @@
+package moe.solo.cloneUnsplash.image;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 24MP(6000x4000) JPEG 기준 플레이스홀더 추출 벤치마크
+ * 비교를 위해 원본 해상도 전체 디코딩도 함께 측정한다
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class ImagePlaceholdersBenchmark {
+
+	private static final int WIDTH = 6000;
+	private static final int HEIGHT = 4000;
+
+	private byte[] jpeg;
+
+	@Setup
+	public void setUp() throws IOException {
+		// 그라디언트에 노이즈를 섞어 실제 사진과 비슷한 압축률을 만든다
+		BufferedImage image = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_RGB);
+		int[] pixels = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+		Random random = new Random(42);
+		for (int y = 0; y < HEIGHT; y++) {
+			for (int x = 0; x < WIDTH; x++) {
+				int r = (x * 255 / WIDTH + random.nextInt(32)) & 0xff;
+				int g = (y * 255 / HEIGHT + random.nextInt(32)) & 0xff;
+				int b = ((x + y) * 255 / (WIDTH + HEIGHT) + random.nextInt(32)) & 0xff;
+				pixels[y * WIDTH + x] = (r << 16) | (g << 8) | b;
+			}
+		}
+		jpeg = ImageResizer.encodeJpeg(image, 0.9f);
+	}
+
+	@Benchmark
+	public ImagePlaceholders.Placeholder extract() throws IOException {
+		return ImagePlaceholders.extract(new ByteArrayInputStream(jpeg));
+	}
+
+	@Benchmark
+	public BufferedImage fullDecode() throws IOException {
+		return ImageIO.read(new ByteArrayInputStream(jpeg));
+	}
+}
@@ -0,0 +1,51 @@
+package moe.solo.cloneUnsplash.security;
+
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 토큰 생성/검증 처리량 벤치마크
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtUtilBenchmark {
+
+	private static final String SECRET = "benchmark-secret-key-for-jmh-only-minimum-32-characters";
+
+	private JwtUtil jwtUtil;
+
+	private String token;
+
+	@Setup
+	public void setUp() {
+		jwtUtil = new JwtUtil(SECRET, 86400000L, new SimpleMeterRegistry());
+		token = jwtUtil.generateToken(1L, "benchmark");
+	}
+
+	@Benchmark
+	public String generateToken() {
+		return jwtUtil.generateToken(1L, "benchmark");
+	}
+
+	@Benchmark
+	public Claims parseVerifiedClaims() {
+		return jwtUtil.parseVerifiedClaims(token);
+	}
+}
@@ -0,0 +1,111 @@
+package moe.solo.cloneUnsplash.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+@EnableAsync
+@Slf4j
+public class AsyncConfig {
+
+    @Value("${photo.rendition.pool-size:2}")
+    private int renditionPoolSize;
+
+    @Value("${photo.rendition.queue-capacity:100}")
+    private int renditionQueueCapacity;
+
+    @Value("${s3.transfer.pool-size:8}")
+    private int s3TransferPoolSize;
+
+    @Value("${photo.download.stream-pool-size:32}")
+    private int downloadStreamPoolSize;
+
+    /**
+     * 업로드 후처리 전용 스레드 풀 (이미지 디코딩은 CPU/메모리 사용량이 크므로 동시 실행 수를 제한)
+     */
+    @Bean(name = "renditionExecutor")
+    public ThreadPoolTaskExecutor renditionExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(renditionPoolSize);
+        executor.setMaxPoolSize(renditionPoolSize);
+        executor.setQueueCapacity(renditionQueueCapacity);
+        executor.setThreadNamePrefix("rendition-");
+        // 대기열이 가득 차면 건너뛰고 원본 이미지를 사용
+        executor.setRejectedExecutionHandler((task, pool) ->
+                log.warn("Rendition queue is full, skipping post-processing task"));
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    /**
+     * S3 멀티파트 업로드 파트 전송용 스레드 풀
+     * 요청별 동시 파트 수는 s3.multipart.parallelism으로, 전체 동시 전송 수는 풀 크기로 제한
+     */
+    @Bean(name = "s3TransferExecutor")
+    public ThreadPoolTaskExecutor s3TransferExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(s3TransferPoolSize);
+        executor.setMaxPoolSize(s3TransferPoolSize);
+        executor.setThreadNamePrefix("s3-transfer-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    /**
+     * 참조가 없어진 S3 파일 정리용 스레드 풀
+     * 대기열이 가득 차면 호출 스레드에서 실행하여 삭제를 건너뛰지 않음
+     */
+    @Bean(name = "storageCleanupExecutor")
+    public ThreadPoolTaskExecutor storageCleanupExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(1000);
+        executor.setThreadNamePrefix("storage-cleanup-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    /**
+     * 다운로드 응답 스트리밍 (StreamingResponseBody) 실행용 스레드 풀
+     * 요청 스레드는 헤더 작성 후 반환되고, S3 -> 클라이언트 복사는 이 풀에서 진행
+     */
+    @Bean(name = "downloadStreamExecutor")
+    public ThreadPoolTaskExecutor downloadStreamExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(downloadStreamPoolSize);
+        executor.setMaxPoolSize(downloadStreamPoolSize);
+        executor.setQueueCapacity(downloadStreamPoolSize * 4);
+        executor.setThreadNamePrefix("download-stream-");
+        // 대기열이 가득 차면 거부 (TaskRejectedException -> 503 응답)
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        return executor;
+    }
+
+    /**
+     * 다운로드 기록 저장용 스레드 풀 (대기열이 가득 차면 기록을 건너뜀)
+     */
+    @Bean(name = "downloadRecordExecutor")
+    public ThreadPoolTaskExecutor downloadRecordExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(1000);
+        executor.setThreadNamePrefix("download-record-");
+        executor.setRejectedExecutionHandler((task, pool) ->
+                log.warn("Download record queue is full, skipping download record"));
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        return executor;
+    }
+}
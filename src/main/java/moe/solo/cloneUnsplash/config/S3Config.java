@@ -6,11 +6,16 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.http.apache.ApacheHttpClient;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
 import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 
 import java.net.URI;
+import java.time.Duration;
 
 @Configuration
 @Slf4j
@@ -28,10 +33,33 @@ public class S3Config {
     @Value("${s3.region:us-east-1}")
     private String region;
 
+    @Value("${s3.public-url:#{null}}")
+    private String publicUrl;
+
+    @Value("${s3.sync.max-connections:128}")
+    private int syncMaxConnections;
+
+    @Value("${s3.sync.connection-acquisition-timeout-ms:10000}")
+    private long syncAcquisitionTimeoutMillis;
+
+    @Value("${s3.async.max-concurrency:64}")
+    private int asyncMaxConcurrency;
+
+    @Value("${s3.async.max-pending-connection-acquires:1000}")
+    private int asyncMaxPendingAcquires;
+
+    @Value("${s3.async.connection-acquisition-timeout-ms:10000}")
+    private long asyncAcquisitionTimeoutMillis;
+
+    /**
+     * 동기 S3 클라이언트 (Apache)
+     * 다운로드 스트리밍이 전송 시간 동안 커넥션을 점유하므로, 멀티파트 업로드와 함께 쓸 수 있도록
+     * 커넥션 풀을 다운로드 스레드 수 + 전송 스레드 수보다 크게 설정
+     */
     @Bean
     public S3Client s3Client() {
-        log.info("Initializing S3 client with endpoint: {}", endpoint);
-        
+        log.info("Initializing S3 client with endpoint: {}, max connections: {}", endpoint, syncMaxConnections);
+
         return S3Client.builder()
                 .endpointOverride(URI.create(endpoint))
                 .region(Region.of(region))
@@ -41,6 +69,53 @@ public class S3Config {
                 .serviceConfiguration(S3Configuration.builder()
                         .pathStyleAccessEnabled(true)
                         .build())
+                .httpClientBuilder(ApacheHttpClient.builder()
+                        .maxConnections(syncMaxConnections)
+                        .connectionAcquisitionTimeout(Duration.ofMillis(syncAcquisitionTimeoutMillis)))
+                .build();
+    }
+
+    /**
+     * 클라이언트가 직접 업로드할 presigned URL 생성용
+     * 브라우저에서 접근하는 주소로 서명해야 하므로 public-url이 있으면 사용
+     */
+    @Bean
+    public S3Presigner s3Presigner() {
+        String presignEndpoint = (publicUrl != null && !publicUrl.isEmpty()) ? publicUrl : endpoint;
+
+        return S3Presigner.builder()
+                .endpointOverride(URI.create(presignEndpoint))
+                .region(Region.of(region))
+                .credentialsProvider(StaticCredentialsProvider.create(
+                        AwsBasicCredentials.create(accessKey, secretKey)
+                ))
+                .serviceConfiguration(S3Configuration.builder()
+                        .pathStyleAccessEnabled(true)
+                        .build())
+                .build();
+    }
+
+    /**
+     * 논블로킹 S3 클라이언트 (Netty)
+     * 동시 요청 수는 커넥션 풀 크기(max-concurrency)로 제한하고, 초과분은 풀에서 대기한다
+     */
+    @Bean
+    public S3AsyncClient s3AsyncClient() {
+        log.info("Initializing S3 async client with endpoint: {}, max concurrency: {}", endpoint, asyncMaxConcurrency);
+
+        return S3AsyncClient.builder()
+                .endpointOverride(URI.create(endpoint))
+                .region(Region.of(region))
+                .credentialsProvider(StaticCredentialsProvider.create(
+                        AwsBasicCredentials.create(accessKey, secretKey)
+                ))
+                .serviceConfiguration(S3Configuration.builder()
+                        .pathStyleAccessEnabled(true)
+                        .build())
+                .httpClientBuilder(NettyNioAsyncHttpClient.builder()
+                        .maxConcurrency(asyncMaxConcurrency)
+                        .maxPendingConnectionAcquires(asyncMaxPendingAcquires)
+                        .connectionAcquisitionTimeout(Duration.ofMillis(asyncAcquisitionTimeoutMillis)))
                 .build();
     }
 }
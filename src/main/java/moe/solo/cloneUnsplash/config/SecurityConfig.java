@@ -42,7 +42,9 @@ public class SecurityConfig {
                 .authorizeHttpRequests(auth -> auth
                         // API 엔드포인트
                         .requestMatchers("/api/auth/**").permitAll()
+                        .requestMatchers("/api/photos/uploads/**").authenticated()
                         .requestMatchers("/api/photos/**").permitAll()
+                        .requestMatchers("/api/tags/**").permitAll()
                         .requestMatchers("/api/collections").permitAll()
                         .requestMatchers("/api/collections/{collectionId}").permitAll()
                         .requestMatchers("/api/users/{userId}").permitAll()
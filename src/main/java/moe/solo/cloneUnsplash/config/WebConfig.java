@@ -1,8 +1,11 @@
 package moe.solo.cloneUnsplash.config;
 
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.ViewControllerRegistry;
@@ -14,9 +17,20 @@ public class WebConfig {
     @Value("${cors.allowed-origins}")
     private String[] allowedOrigins;
 
+    @Value("${photo.download.stream-timeout-ms:300000}")
+    private long streamTimeoutMillis;
+
     @Bean
-    public WebMvcConfigurer corsConfigurer() {
+    public WebMvcConfigurer corsConfigurer(
+            @Qualifier("downloadStreamExecutor") ThreadPoolTaskExecutor downloadStreamExecutor) {
         return new WebMvcConfigurer() {
+            @Override
+            public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+                // StreamingResponseBody 실행 스레드 풀과 최대 전송 시간
+                configurer.setTaskExecutor(downloadStreamExecutor);
+                configurer.setDefaultTimeout(streamTimeoutMillis);
+            }
+
             @Override
             public void addCorsMappings(CorsRegistry registry) {
                 registry.addMapping("/api/**")
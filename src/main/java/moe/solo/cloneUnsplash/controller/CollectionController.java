@@ -7,12 +7,12 @@ import moe.solo.cloneUnsplash.dto.collection.CollectionRequest;
 import moe.solo.cloneUnsplash.dto.collection.CollectionResponse;
 import moe.solo.cloneUnsplash.dto.common.ApiResponse;
 import moe.solo.cloneUnsplash.dto.common.PageResponse;
+import moe.solo.cloneUnsplash.security.UserPrincipal;
 import moe.solo.cloneUnsplash.service.CollectionService;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
@@ -25,10 +25,10 @@ public class CollectionController {
     @PostMapping
     public ResponseEntity<ApiResponse<CollectionResponse>> createCollection(
             @Valid @RequestBody CollectionRequest request,
-            Authentication authentication) {
+            @AuthenticationPrincipal UserPrincipal principal) {
 
-        String username = authentication.getName();
-        CollectionResponse response = collectionService.createCollection(request, username);
+        Long currentUserId = principal.getId();
+        CollectionResponse response = collectionService.createCollection(request, currentUserId);
         return ResponseEntity.status(HttpStatus.CREATED)
                 .body(ApiResponse.success("컬렉션이 생성되었습니다", response));
     }
@@ -36,10 +36,10 @@ public class CollectionController {
     @GetMapping("/{collectionId}")
     public ResponseEntity<ApiResponse<CollectionResponse>> getCollection(
             @PathVariable("collectionId") Long collectionId,
-            Authentication authentication) {
+            @AuthenticationPrincipal UserPrincipal principal) {
 
-        String username = authentication != null ? authentication.getName() : null;
-        CollectionResponse response = collectionService.getCollection(collectionId, username);
+        Long currentUserId = principal != null ? principal.getId() : null;
+        CollectionResponse response = collectionService.getCollection(collectionId, currentUserId);
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
@@ -48,7 +48,7 @@ public class CollectionController {
             @RequestParam(name = "page", defaultValue = "0") int page,
             @RequestParam(name = "size", defaultValue = "20") int size) {
 
-        Pageable pageable = PageRequest.of(page, size);
+        Pageable pageable = Paging.pageRequest(page, size);
         PageResponse<CollectionResponse> response = collectionService.getPublicCollections(pageable);
         return ResponseEntity.ok(ApiResponse.success(response));
     }
@@ -58,11 +58,11 @@ public class CollectionController {
             @PathVariable("userId") Long userId,
             @RequestParam(name = "page", defaultValue = "0") int page,
             @RequestParam(name = "size", defaultValue = "20") int size,
-            Authentication authentication) {
+            @AuthenticationPrincipal UserPrincipal principal) {
 
-        Pageable pageable = PageRequest.of(page, size);
-        String username = authentication != null ? authentication.getName() : null;
-        PageResponse<CollectionResponse> response = collectionService.getUserCollections(userId, pageable, username);
+        Pageable pageable = Paging.pageRequest(page, size);
+        Long currentUserId = principal != null ? principal.getId() : null;
+        PageResponse<CollectionResponse> response = collectionService.getUserCollections(userId, pageable, currentUserId);
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
@@ -70,20 +70,20 @@ public class CollectionController {
     public ResponseEntity<ApiResponse<CollectionResponse>> updateCollection(
             @PathVariable("collectionId") Long collectionId,
             @Valid @RequestBody CollectionRequest request,
-            Authentication authentication) {
+            @AuthenticationPrincipal UserPrincipal principal) {
 
-        String username = authentication.getName();
-        CollectionResponse response = collectionService.updateCollection(collectionId, request, username);
+        Long currentUserId = principal.getId();
+        CollectionResponse response = collectionService.updateCollection(collectionId, request, currentUserId);
         return ResponseEntity.ok(ApiResponse.success("컬렉션이 업데이트되었습니다", response));
     }
 
     @DeleteMapping("/{collectionId}")
     public ResponseEntity<ApiResponse<Void>> deleteCollection(
             @PathVariable("collectionId") Long collectionId,
-            Authentication authentication) {
+            @AuthenticationPrincipal UserPrincipal principal) {
 
-        String username = authentication.getName();
-        collectionService.deleteCollection(collectionId, username);
+        Long currentUserId = principal.getId();
+        collectionService.deleteCollection(collectionId, currentUserId);
         return ResponseEntity.ok(ApiResponse.success("컬렉션이 삭제되었습니다", null));
     }
 
@@ -91,10 +91,10 @@ public class CollectionController {
     public ResponseEntity<ApiResponse<Void>> addPhotoToCollection(
             @PathVariable("collectionId") Long collectionId,
             @Valid @RequestBody AddPhotoToCollectionRequest request,
-            Authentication authentication) {
+            @AuthenticationPrincipal UserPrincipal principal) {
 
-        String username = authentication.getName();
-        collectionService.addPhotoToCollection(collectionId, request, username);
+        Long currentUserId = principal.getId();
+        collectionService.addPhotoToCollection(collectionId, request, currentUserId);
         return ResponseEntity.ok(ApiResponse.success("사진이 컬렉션에 추가되었습니다", null));
     }
 
@@ -102,10 +102,10 @@ public class CollectionController {
     public ResponseEntity<ApiResponse<Void>> removePhotoFromCollection(
             @PathVariable("collectionId") Long collectionId,
             @PathVariable("photoId") Long photoId,
-            Authentication authentication) {
+            @AuthenticationPrincipal UserPrincipal principal) {
 
-        String username = authentication.getName();
-        collectionService.removePhotoFromCollection(collectionId, photoId, username);
+        Long currentUserId = principal.getId();
+        collectionService.removePhotoFromCollection(collectionId, photoId, currentUserId);
         return ResponseEntity.ok(ApiResponse.success("사진이 컬렉션에서 제거되었습니다", null));
     }
 }
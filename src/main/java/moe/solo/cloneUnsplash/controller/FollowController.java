@@ -2,9 +2,10 @@ package moe.solo.cloneUnsplash.controller;
 
 import lombok.RequiredArgsConstructor;
 import moe.solo.cloneUnsplash.dto.common.ApiResponse;
+import moe.solo.cloneUnsplash.security.UserPrincipal;
 import moe.solo.cloneUnsplash.service.FollowService;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
@@ -17,30 +18,30 @@ public class FollowController {
     @PostMapping("/{userId}/follow")
     public ResponseEntity<ApiResponse<Void>> followUser(
             @PathVariable("userId") Long userId,
-            Authentication authentication) {
+            @AuthenticationPrincipal UserPrincipal principal) {
 
-        String username = authentication.getName();
-        followService.followUser(userId, username);
+        Long currentUserId = principal.getId();
+        followService.followUser(userId, currentUserId);
         return ResponseEntity.ok(ApiResponse.success("팔로우했습니다", null));
     }
 
     @DeleteMapping("/{userId}/follow")
     public ResponseEntity<ApiResponse<Void>> unfollowUser(
             @PathVariable("userId") Long userId,
-            Authentication authentication) {
+            @AuthenticationPrincipal UserPrincipal principal) {
 
-        String username = authentication.getName();
-        followService.unfollowUser(userId, username);
+        Long currentUserId = principal.getId();
+        followService.unfollowUser(userId, currentUserId);
         return ResponseEntity.ok(ApiResponse.success("언팔로우했습니다", null));
     }
 
     @GetMapping("/{userId}/is-following")
     public ResponseEntity<ApiResponse<Boolean>> isFollowing(
             @PathVariable("userId") Long userId,
-            Authentication authentication) {
+            @AuthenticationPrincipal UserPrincipal principal) {
 
-        String username = authentication != null ? authentication.getName() : null;
-        boolean isFollowing = followService.isFollowing(userId, username);
+        Long currentUserId = principal != null ? principal.getId() : null;
+        boolean isFollowing = followService.isFollowing(userId, currentUserId);
         return ResponseEntity.ok(ApiResponse.success(isFollowing));
     }
 }
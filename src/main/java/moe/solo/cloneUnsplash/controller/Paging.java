@@ -0,0 +1,31 @@
+package moe.solo.cloneUnsplash.controller;
+
+import moe.solo.cloneUnsplash.exception.BadRequestException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * 목록 조회 페이지 파라미터 검증
+ * 음수 페이지나 1 미만 크기는 400, 최대 크기를 넘으면 최대 크기로 제한
+ */
+final class Paging {
+
+    static final int MAX_PAGE_SIZE = 100;
+
+    private Paging() {
+    }
+
+    static Pageable pageRequest(int page, int size) {
+        if (page < 0) {
+            throw new BadRequestException("페이지 번호는 0 이상이어야 합니다");
+        }
+        return PageRequest.of(page, size(size));
+    }
+
+    static int size(int size) {
+        if (size < 1) {
+            throw new BadRequestException("페이지 크기는 1 이상이어야 합니다");
+        }
+        return Math.min(size, MAX_PAGE_SIZE);
+    }
+}
@@ -4,20 +4,38 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import moe.solo.cloneUnsplash.dto.common.ApiResponse;
+import moe.solo.cloneUnsplash.dto.common.CursorResponse;
 import moe.solo.cloneUnsplash.dto.common.PageResponse;
+import moe.solo.cloneUnsplash.dto.photo.PhotoFinalizeRequest;
 import moe.solo.cloneUnsplash.dto.photo.PhotoResponse;
 import moe.solo.cloneUnsplash.dto.photo.PhotoUpdateRequest;
 import moe.solo.cloneUnsplash.dto.photo.PhotoUploadRequest;
+import moe.solo.cloneUnsplash.dto.photo.PresignedUploadRequest;
+import moe.solo.cloneUnsplash.dto.photo.PresignedUploadResponse;
+import moe.solo.cloneUnsplash.security.UserPrincipal;
 import moe.solo.cloneUnsplash.service.DownloadService;
 import moe.solo.cloneUnsplash.service.LikeService;
+import moe.solo.cloneUnsplash.service.PhotoImageService;
 import moe.solo.cloneUnsplash.service.PhotoService;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
 
 @RestController
 @RequestMapping("/api/photos")
@@ -27,6 +45,7 @@ public class PhotoController {
     private final PhotoService photoService;
     private final LikeService likeService;
     private final DownloadService downloadService;
+    private final PhotoImageService photoImageService;
 
     @PostMapping
     public ResponseEntity<ApiResponse<PhotoResponse>> uploadPhoto(
@@ -34,7 +53,7 @@ public class PhotoController {
             @RequestParam("title") String title,
             @RequestParam(value = "description", required = false) String description,
             @RequestParam(value = "tags", required = false) String[] tags,
-            Authentication authentication) {
+            @AuthenticationPrincipal UserPrincipal principal) {
 
         PhotoUploadRequest request = PhotoUploadRequest.builder()
                 .title(title)
@@ -42,8 +61,27 @@ public class PhotoController {
                 .tags(tags != null ? java.util.Arrays.asList(tags) : null)
                 .build();
 
-        String username = authentication.getName();
-        PhotoResponse response = photoService.uploadPhoto(file, request, username);
+        Long currentUserId = principal.getId();
+        PhotoResponse response = photoService.uploadPhoto(file, request, currentUserId);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.success("사진이 업로드되었습니다", response));
+    }
+
+    @PostMapping("/uploads")
+    public ResponseEntity<ApiResponse<PresignedUploadResponse>> createUploadUrl(
+            @Valid @RequestBody PresignedUploadRequest request,
+            @AuthenticationPrincipal UserPrincipal principal) {
+
+        PresignedUploadResponse response = photoService.createUploadUrl(request, principal.getId());
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    @PostMapping("/uploads/complete")
+    public ResponseEntity<ApiResponse<PhotoResponse>> finalizeUpload(
+            @Valid @RequestBody PhotoFinalizeRequest request,
+            @AuthenticationPrincipal UserPrincipal principal) {
+
+        PhotoResponse response = photoService.finalizeUpload(request, principal.getId());
         return ResponseEntity.status(HttpStatus.CREATED)
                 .body(ApiResponse.success("사진이 업로드되었습니다", response));
     }
@@ -52,21 +90,32 @@ public class PhotoController {
     public ResponseEntity<ApiResponse<PageResponse<PhotoResponse>>> getPhotos(
             @RequestParam(name = "page", defaultValue = "0") int page,
             @RequestParam(name = "size", defaultValue = "20") int size,
-            Authentication authentication) {
+            @AuthenticationPrincipal UserPrincipal principal) {
+
+        Pageable pageable = Paging.pageRequest(page, size);
+        Long currentUserId = principal != null ? principal.getId() : null;
+        PageResponse<PhotoResponse> response = photoService.getPhotos(pageable, currentUserId);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    @GetMapping(params = "cursor")
+    public ResponseEntity<ApiResponse<CursorResponse<PhotoResponse>>> getPhotosByCursor(
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "20") int size,
+            @AuthenticationPrincipal UserPrincipal principal) {
 
-        Pageable pageable = PageRequest.of(page, size);
-        String username = authentication != null ? authentication.getName() : null;
-        PageResponse<PhotoResponse> response = photoService.getPhotos(pageable, username);
+        Long currentUserId = principal != null ? principal.getId() : null;
+        CursorResponse<PhotoResponse> response = photoService.getPhotosByCursor(cursor, Paging.size(size), currentUserId);
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
     @GetMapping("/{photoId}")
     public ResponseEntity<ApiResponse<PhotoResponse>> getPhoto(
             @PathVariable("photoId") Long photoId,
-            Authentication authentication) {
+            @AuthenticationPrincipal UserPrincipal principal) {
 
-        String username = authentication != null ? authentication.getName() : null;
-        PhotoResponse response = photoService.getPhoto(photoId, username);
+        Long currentUserId = principal != null ? principal.getId() : null;
+        PhotoResponse response = photoService.getPhoto(photoId, currentUserId);
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
@@ -75,11 +124,11 @@ public class PhotoController {
             @RequestParam("keyword") String keyword,
             @RequestParam(name = "page", defaultValue = "0") int page,
             @RequestParam(name = "size", defaultValue = "20") int size,
-            Authentication authentication) {
+            @AuthenticationPrincipal UserPrincipal principal) {
 
-        Pageable pageable = PageRequest.of(page, size);
-        String username = authentication != null ? authentication.getName() : null;
-        PageResponse<PhotoResponse> response = photoService.searchPhotos(keyword, pageable, username);
+        Pageable pageable = Paging.pageRequest(page, size);
+        Long currentUserId = principal != null ? principal.getId() : null;
+        PageResponse<PhotoResponse> response = photoService.searchPhotos(keyword, pageable, currentUserId);
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
@@ -88,11 +137,38 @@ public class PhotoController {
             @PathVariable("tagName") String tagName,
             @RequestParam(name = "page", defaultValue = "0") int page,
             @RequestParam(name = "size", defaultValue = "20") int size,
-            Authentication authentication) {
+            @AuthenticationPrincipal UserPrincipal principal) {
+
+        Pageable pageable = Paging.pageRequest(page, size);
+        Long currentUserId = principal != null ? principal.getId() : null;
+        PageResponse<PhotoResponse> response = photoService.getPhotosByTag(tagName, pageable, currentUserId);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    @GetMapping("/tags")
+    public ResponseEntity<ApiResponse<PageResponse<PhotoResponse>>> getPhotosByTags(
+            @RequestParam(name = "all", defaultValue = "") List<String> all,
+            @RequestParam(name = "any", defaultValue = "") List<String> any,
+            @RequestParam(name = "none", defaultValue = "") List<String> none,
+            @RequestParam(name = "page", defaultValue = "0") int page,
+            @RequestParam(name = "size", defaultValue = "20") int size,
+            @AuthenticationPrincipal UserPrincipal principal) {
 
-        Pageable pageable = PageRequest.of(page, size);
-        String username = authentication != null ? authentication.getName() : null;
-        PageResponse<PhotoResponse> response = photoService.getPhotosByTag(tagName, pageable, username);
+        Pageable pageable = Paging.pageRequest(page, size);
+        Long currentUserId = principal != null ? principal.getId() : null;
+        PageResponse<PhotoResponse> response = photoService.getPhotosByTags(all, any, none, pageable, currentUserId);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    @GetMapping(value = "/tag/{tagName}", params = "cursor")
+    public ResponseEntity<ApiResponse<CursorResponse<PhotoResponse>>> getPhotosByTagAndCursor(
+            @PathVariable("tagName") String tagName,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "20") int size,
+            @AuthenticationPrincipal UserPrincipal principal) {
+
+        Long currentUserId = principal != null ? principal.getId() : null;
+        CursorResponse<PhotoResponse> response = photoService.getPhotosByTagAndCursor(tagName, cursor, Paging.size(size), currentUserId);
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
@@ -101,11 +177,23 @@ public class PhotoController {
             @PathVariable("userId") Long userId,
             @RequestParam(name = "page", defaultValue = "0") int page,
             @RequestParam(name = "size", defaultValue = "20") int size,
-            Authentication authentication) {
+            @AuthenticationPrincipal UserPrincipal principal) {
+
+        Pageable pageable = Paging.pageRequest(page, size);
+        Long currentUserId = principal != null ? principal.getId() : null;
+        PageResponse<PhotoResponse> response = photoService.getUserPhotos(userId, pageable, currentUserId);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    @GetMapping(value = "/user/{userId}", params = "cursor")
+    public ResponseEntity<ApiResponse<CursorResponse<PhotoResponse>>> getUserPhotosByCursor(
+            @PathVariable("userId") Long userId,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "20") int size,
+            @AuthenticationPrincipal UserPrincipal principal) {
 
-        Pageable pageable = PageRequest.of(page, size);
-        String username = authentication != null ? authentication.getName() : null;
-        PageResponse<PhotoResponse> response = photoService.getUserPhotos(userId, pageable, username);
+        Long currentUserId = principal != null ? principal.getId() : null;
+        CursorResponse<PhotoResponse> response = photoService.getUserPhotosByCursor(userId, cursor, Paging.size(size), currentUserId);
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
@@ -113,52 +201,201 @@ public class PhotoController {
     public ResponseEntity<ApiResponse<PhotoResponse>> updatePhoto(
             @PathVariable("photoId") Long photoId,
             @Valid @RequestBody PhotoUpdateRequest request,
-            Authentication authentication) {
+            @AuthenticationPrincipal UserPrincipal principal) {
 
-        String username = authentication.getName();
-        PhotoResponse response = photoService.updatePhoto(photoId, request, username);
+        Long currentUserId = principal.getId();
+        PhotoResponse response = photoService.updatePhoto(photoId, request, currentUserId);
         return ResponseEntity.ok(ApiResponse.success("사진 정보가 업데이트되었습니다", response));
     }
 
     @DeleteMapping("/{photoId}")
     public ResponseEntity<ApiResponse<Void>> deletePhoto(
             @PathVariable("photoId") Long photoId,
-            Authentication authentication) {
+            @AuthenticationPrincipal UserPrincipal principal) {
 
-        String username = authentication.getName();
-        photoService.deletePhoto(photoId, username);
+        Long currentUserId = principal.getId();
+        photoService.deletePhoto(photoId, currentUserId);
         return ResponseEntity.ok(ApiResponse.success("사진이 삭제되었습니다", null));
     }
 
     @PostMapping("/{photoId}/like")
     public ResponseEntity<ApiResponse<Void>> likePhoto(
             @PathVariable("photoId") Long photoId,
-            Authentication authentication) {
+            @AuthenticationPrincipal UserPrincipal principal) {
 
-        String username = authentication.getName();
-        likeService.likePhoto(photoId, username);
+        Long currentUserId = principal.getId();
+        likeService.likePhoto(photoId, currentUserId);
         return ResponseEntity.ok(ApiResponse.success("좋아요를 눌렀습니다", null));
     }
 
     @DeleteMapping("/{photoId}/like")
     public ResponseEntity<ApiResponse<Void>> unlikePhoto(
             @PathVariable("photoId") Long photoId,
-            Authentication authentication) {
+            @AuthenticationPrincipal UserPrincipal principal) {
 
-        String username = authentication.getName();
-        likeService.unlikePhoto(photoId, username);
+        Long currentUserId = principal.getId();
+        likeService.unlikePhoto(photoId, currentUserId);
         return ResponseEntity.ok(ApiResponse.success("좋아요를 취소했습니다", null));
     }
 
+    /**
+     * 원본 파일 다운로드 (S3에서 스트리밍)
+     * 단일 Range 요청과 If-None-Match / If-Modified-Since 조건부 요청을 지원한다
+     */
+    @GetMapping("/{photoId}/download")
+    public ResponseEntity<StreamingResponseBody> streamPhoto(
+            @PathVariable("photoId") Long photoId,
+            @RequestHeader(value = HttpHeaders.RANGE, required = false) String rangeHeader,
+            @RequestHeader(value = HttpHeaders.IF_RANGE, required = false) String ifRange,
+            HttpServletRequest request,
+            @AuthenticationPrincipal UserPrincipal principal) {
+
+        DownloadService.PhotoFile file = downloadService.getPhotoFile(photoId);
+        long length = file.contentLength();
+
+        if (isNotModified(request, file)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(file.eTag())
+                    .lastModified(file.lastModified())
+                    .build();
+        }
+
+        // 단일 범위만 지원 (여러 범위 요청이나 If-Range 불일치 시 전체 전송)
+        long start = 0;
+        long end = length - 1;
+        boolean partial = false;
+        if (rangeHeader != null && (ifRange == null || ifRange.equals(file.eTag()))) {
+            List<HttpRange> ranges;
+            try {
+                ranges = HttpRange.parseRanges(rangeHeader);
+            } catch (IllegalArgumentException e) {
+                ranges = List.of();
+            }
+            if (ranges.size() == 1) {
+                try {
+                    start = ranges.get(0).getRangeStart(length);
+                    end = ranges.get(0).getRangeEnd(length);
+                    partial = true;
+                } catch (IllegalArgumentException e) {
+                    return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+                            .header(HttpHeaders.CONTENT_RANGE, "bytes */" + length)
+                            .build();
+                }
+            }
+        }
+
+        // 이어받기 요청은 한 번의 다운로드로 보고 처음부터 받는 경우만 기록
+        if (start == 0 && "GET".equals(request.getMethod())) {
+            Long currentUserId = principal != null ? principal.getId() : null;
+            downloadService.recordDownloadAsync(photoId, currentUserId, request.getRemoteAddr());
+        }
+
+        long rangeStart = start;
+        long rangeEnd = end;
+        StreamingResponseBody body = output -> {
+            try (ResponseInputStream<GetObjectResponse> input = downloadService.openFile(file, rangeStart, rangeEnd)) {
+                try {
+                    input.transferTo(output);
+                } catch (IOException e) {
+                    // 클라이언트 연결이 끊긴 경우 close()가 남은 본문을 끝까지 읽지 않도록 S3 연결을 끊음
+                    input.abort();
+                    throw e;
+                }
+            }
+        };
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(partial ? HttpStatus.PARTIAL_CONTENT : HttpStatus.OK)
+                .eTag(file.eTag())
+                .lastModified(file.lastModified())
+                .contentLength(end - start + 1)
+                .contentType(file.contentType() != null
+                        ? MediaType.parseMediaType(file.contentType())
+                        : MediaType.APPLICATION_OCTET_STREAM)
+                .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(downloadFilename(photoId, file.key()))
+                        .build()
+                        .toString());
+        if (partial) {
+            response.header(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+        }
+        return response.body(body);
+    }
+
+    /**
+     * 요청 크기로 변환한 이미지 (w, h: 최대 크기, q: JPEG 품질 1-100, fit: clip | crop)
+     */
+    @GetMapping("/{photoId}/image")
+    public ResponseEntity<InputStreamResource> getPhotoImage(
+            @PathVariable("photoId") Long photoId,
+            @RequestParam(name = "w", required = false) Integer width,
+            @RequestParam(name = "h", required = false) Integer height,
+            @RequestParam(name = "q", required = false) Integer quality,
+            @RequestParam(name = "fit", required = false) String fit,
+            HttpServletRequest request) {
+
+        PhotoImageService.ImageRequest imageRequest = photoImageService.resolve(photoId, width, height, quality, fit);
+        String eTag = "\"" + imageRequest.cacheKey() + "\"";
+
+        // 같은 변환 결과는 항상 같으므로 ETag만으로 판단
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null && ifNoneMatch.contains(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+
+        PhotoImageService.VariantImage image = photoImageService.open(imageRequest);
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(CacheControl.maxAge(Duration.ofDays(365)).cachePublic())
+                .contentType(MediaType.IMAGE_JPEG)
+                .contentLength(image.size())
+                .body(new InputStreamResource(image.input()));
+    }
+
     @PostMapping("/{photoId}/download")
     public ResponseEntity<ApiResponse<Void>> downloadPhoto(
             @PathVariable("photoId") Long photoId,
             HttpServletRequest request,
-            Authentication authentication) {
+            @AuthenticationPrincipal UserPrincipal principal) {
 
-        String username = authentication != null ? authentication.getName() : null;
+        Long currentUserId = principal != null ? principal.getId() : null;
         String ipAddress = request.getRemoteAddr();
-        downloadService.recordDownload(photoId, username, ipAddress);
+        downloadService.recordDownload(photoId, currentUserId, ipAddress);
         return ResponseEntity.ok(ApiResponse.success("다운로드가 기록되었습니다", null));
     }
+
+    /*
+    If-None-Match가 있으면 ETag로만 비교하고, 없을 때 If-Modified-Since를 확인
+    */
+    private static boolean isNotModified(HttpServletRequest request, DownloadService.PhotoFile file) {
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null) {
+            String eTag = stripWeak(file.eTag());
+            for (String candidate : ifNoneMatch.split(",")) {
+                String value = candidate.trim();
+                if (value.equals("*") || stripWeak(value).equals(eTag)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        long ifModifiedSince;
+        try {
+            ifModifiedSince = request.getDateHeader(HttpHeaders.IF_MODIFIED_SINCE);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+        // HTTP 날짜는 초 단위이므로 밀리초는 버리고 비교
+        return ifModifiedSince != -1 && file.lastModified().getEpochSecond() <= ifModifiedSince / 1000;
+    }
+
+    private static String stripWeak(String eTag) {
+        return eTag != null && eTag.startsWith("W/") ? eTag.substring(2) : eTag;
+    }
+
+    private static String downloadFilename(Long photoId, String key) {
+        int extension = key.lastIndexOf('.');
+        return "photo-" + photoId + (extension > key.lastIndexOf('/') ? key.substring(extension) : "");
+    }
 }
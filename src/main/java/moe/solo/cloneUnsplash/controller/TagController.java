@@ -0,0 +1,27 @@
+package moe.solo.cloneUnsplash.controller;
+
+import lombok.RequiredArgsConstructor;
+import moe.solo.cloneUnsplash.dto.common.ApiResponse;
+import moe.solo.cloneUnsplash.dto.tag.TagSuggestionResponse;
+import moe.solo.cloneUnsplash.service.TagSuggestionService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/tags")
+@RequiredArgsConstructor
+public class TagController {
+
+    private final TagSuggestionService tagSuggestionService;
+
+    @GetMapping("/suggest")
+    public ResponseEntity<ApiResponse<List<TagSuggestionResponse>>> suggestTags(
+            @RequestParam("prefix") String prefix,
+            @RequestParam(name = "limit", defaultValue = "10") int limit) {
+
+        List<TagSuggestionResponse> response = tagSuggestionService.suggest(prefix, limit);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+}
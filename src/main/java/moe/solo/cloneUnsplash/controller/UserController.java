@@ -5,9 +5,10 @@ import lombok.RequiredArgsConstructor;
 import moe.solo.cloneUnsplash.dto.common.ApiResponse;
 import moe.solo.cloneUnsplash.dto.user.UserResponse;
 import moe.solo.cloneUnsplash.dto.user.UserUpdateRequest;
+import moe.solo.cloneUnsplash.security.UserPrincipal;
 import moe.solo.cloneUnsplash.service.UserService;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -34,9 +35,9 @@ public class UserController {
     public ResponseEntity<ApiResponse<UserResponse>> updateUser(
             @PathVariable("userId") Long userId,
             @Valid @RequestBody UserUpdateRequest request,
-            Authentication authentication) {
-        String currentUsername = authentication.getName();
-        UserResponse response = userService.updateUser(userId, request, currentUsername);
+            @AuthenticationPrincipal UserPrincipal principal) {
+        Long currentUserId = principal.getId();
+        UserResponse response = userService.updateUser(userId, request, currentUserId);
         return ResponseEntity.ok(ApiResponse.success("프로필이 업데이트되었습니다", response));
     }
 
@@ -44,9 +45,9 @@ public class UserController {
     public ResponseEntity<ApiResponse<UserResponse>> updateProfileImage(
             @PathVariable("userId") Long userId,
             @RequestParam("file") MultipartFile file,
-            Authentication authentication) {
-        String currentUsername = authentication.getName();
-        UserResponse response = userService.updateProfileImage(userId, file, currentUsername);
+            @AuthenticationPrincipal UserPrincipal principal) {
+        Long currentUserId = principal.getId();
+        UserResponse response = userService.updateProfileImage(userId, file, currentUserId);
         return ResponseEntity.ok(ApiResponse.success("프로필 이미지가 업데이트되었습니다", response));
     }
 }
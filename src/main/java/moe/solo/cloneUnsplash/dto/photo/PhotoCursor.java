@@ -0,0 +1,46 @@
+package moe.solo.cloneUnsplash.dto.photo;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import moe.solo.cloneUnsplash.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 사진 목록 커서 (createdAt, id)
+ * 클라이언트에는 Base64 URL 인코딩된 불투명 문자열로 전달
+ */
+@Getter
+@AllArgsConstructor
+public class PhotoCursor {
+
+    private final LocalDateTime createdAt;
+    private final Long id;
+
+    public String encode() {
+        String raw = createdAt + "," + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 디코딩 (비어 있으면 첫 페이지를 의미하므로 null 반환)
+     */
+    public static PhotoCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(',');
+            return new PhotoCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new BadRequestException("유효하지 않은 커서입니다");
+        }
+    }
+}
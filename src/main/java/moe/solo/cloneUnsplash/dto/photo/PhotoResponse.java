@@ -7,6 +7,7 @@ import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 @Data
 @Builder
@@ -18,9 +19,11 @@ public class PhotoResponse {
     private String description;
     private String imageUrl;
     private String thumbnailUrl;
+    private Map<Integer, String> renditions;
     private Integer width;
     private Integer height;
     private String color;
+    private String blurHash;
     private Long viewsCount;
     private Long downloadsCount;
     private Long likesCount;
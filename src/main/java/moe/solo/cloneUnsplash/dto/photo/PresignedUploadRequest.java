@@ -0,0 +1,28 @@
+package moe.solo.cloneUnsplash.dto.photo;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PresignedUploadRequest {
+
+    @NotBlank(message = "파일 형식은 필수입니다")
+    @Pattern(regexp = "image/[a-zA-Z0-9.+-]+", message = "이미지 파일만 업로드할 수 있습니다")
+    private String contentType;
+
+    /*
+    업로드할 파일 크기 (바이트) - presigned URL에 서명되어 다른 크기로는 업로드할 수 없음
+    */
+    @NotNull(message = "파일 크기는 필수입니다")
+    @Positive(message = "파일 크기는 0보다 커야 합니다")
+    private Long contentLength;
+}
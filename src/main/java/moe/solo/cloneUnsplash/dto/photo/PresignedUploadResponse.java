@@ -0,0 +1,21 @@
+package moe.solo.cloneUnsplash.dto.photo;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PresignedUploadResponse {
+    private String uploadKey;
+    private String uploadUrl;
+    private String method;
+    private String contentType;
+    private Long contentLength;
+    private LocalDateTime expiresAt;
+}
@@ -0,0 +1,15 @@
+package moe.solo.cloneUnsplash.dto.tag;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TagSuggestionResponse {
+    private String name;
+    private Long photosCount;
+}
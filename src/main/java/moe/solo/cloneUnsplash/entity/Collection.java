@@ -10,7 +10,9 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "collections")
+@Table(name = "collections", indexes = {
+        @Index(name = "idx_collections_user_id", columnList = "user_id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -9,6 +9,8 @@ import java.time.LocalDateTime;
 @Entity
 @Table(name = "follows", uniqueConstraints = {
         @UniqueConstraint(columnNames = { "follower_id", "following_id" })
+}, indexes = {
+        @Index(name = "idx_follows_following_id", columnList = "following_id")
 })
 @Getter
 @Setter
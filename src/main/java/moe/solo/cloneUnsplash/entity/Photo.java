@@ -2,7 +2,9 @@ package moe.solo.cloneUnsplash.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
@@ -10,12 +12,17 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "photos")
+@Table(name = "photos", indexes = {
+        @Index(name = "idx_photos_created_at_id", columnList = "created_at, id"),
+        @Index(name = "idx_photos_user_id_created_at_id", columnList = "user_id, created_at, id"),
+        @Index(name = "idx_photos_image_url", columnList = "image_url")
+})
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@DynamicUpdate
 public class Photo {
 
     @Id
@@ -31,9 +38,21 @@ public class Photo {
     @Column(name = "image_url", nullable = false)
     private String imageUrl;
 
+    /*
+    직접 업로드로 등록된 사진의 업로드 키 (같은 업로드를 두 번 등록하지 않도록 유니크)
+    */
+    @Column(name = "upload_key", unique = true)
+    private String uploadKey;
+
     @Column(name = "thumbnail_url")
     private String thumbnailUrl;
 
+    /*
+    생성된 리사이즈 이미지 너비 목록 (예: "200,400,1080")
+    */
+    @Column(name = "rendition_widths", length = 50)
+    private String renditionWidths;
+
     @Column(nullable = false)
     private Integer width;
 
@@ -49,6 +68,17 @@ public class Photo {
     @Column(name = "blur_hash", length = 50)
     private String blurHash;
 
+    /*
+    후처리 재시도 횟수와 마지막 재시도 시각 (디코딩할 수 없는 이미지를 계속 재처리하지 않도록 제한)
+    */
+    @Column(name = "rendition_attempts", nullable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private Integer renditionAttempts = 0;
+
+    @Column(name = "rendition_attempted_at")
+    private LocalDateTime renditionAttemptedAt;
+
     @Column(name = "views_count", nullable = false)
     @Builder.Default
     private Long viewsCount = 0L;
@@ -0,0 +1,41 @@
+package moe.solo.cloneUnsplash.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 내용(SHA-256) 기준으로 저장된 원본 이미지 파일
+ * 같은 파일을 참조하는 사진 수를 세어 마지막 참조가 삭제될 때만 S3 객체를 삭제한다
+ */
+@Entity
+@Table(name = "photo_blobs")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PhotoBlob {
+
+    @Id
+    @Column(length = 64)
+    private String hash;
+
+    @Column(name = "object_key", unique = true, nullable = false)
+    private String objectKey;
+
+    @Column(name = "file_size")
+    private Long fileSize;
+
+    @Column(name = "ref_count", nullable = false)
+    @ColumnDefault("1")
+    @Builder.Default
+    private Long refCount = 1L;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
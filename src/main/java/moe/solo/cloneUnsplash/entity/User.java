@@ -2,7 +2,9 @@ package moe.solo.cloneUnsplash.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
@@ -16,6 +18,7 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@DynamicUpdate
 public class User {
 
     @Id
@@ -52,6 +55,29 @@ public class User {
     @Column(name = "twitter_username", length = 50)
     private String twitterUsername;
 
+    /*
+    프로필 통계 카운터 (서비스에서 원자적으로 증감, UserStatsReconciler가 주기적으로 재계산)
+    */
+    @Column(name = "photos_count", nullable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private Long photosCount = 0L;
+
+    @Column(name = "collections_count", nullable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private Long collectionsCount = 0L;
+
+    @Column(name = "followers_count", nullable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private Long followersCount = 0L;
+
+    @Column(name = "following_count", nullable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private Long followingCount = 0L;
+
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
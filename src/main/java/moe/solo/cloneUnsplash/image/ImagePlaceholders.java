@@ -0,0 +1,79 @@
+package moe.solo.cloneUnsplash.image;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 이미지 로딩 전에 표시할 플레이스홀더 정보 (대표 색상, BlurHash) 추출
+ * 원본 해상도로 디코딩하지 않고 서브샘플링한 작은 이미지로 계산한다
+ */
+public final class ImagePlaceholders {
+
+    /*
+    서브샘플링 디코딩 최소 크기와 BlurHash 계산용 크기
+    */
+    private static final int DECODE_SIZE = 64;
+    private static final int HASH_SIZE = 32;
+
+    private static final int BLUR_HASH_COMPONENTS_X = 4;
+    private static final int BLUR_HASH_COMPONENTS_Y = 3;
+
+    private ImagePlaceholders() {
+    }
+
+    public static Placeholder extract(InputStream input) throws IOException {
+        ImageResizer.DecodedImage decoded = ImageResizer.readSubsampled(input, DECODE_SIZE, DECODE_SIZE);
+        return extract(decoded.image());
+    }
+
+    /**
+     * 이미 디코딩된 이미지에서 추출 (후처리 단계에서 리사이즈용 디코딩 결과를 재사용)
+     */
+    public static Placeholder extract(BufferedImage image) {
+        double scale = Math.min(1.0, (double) HASH_SIZE / Math.max(image.getWidth(), image.getHeight()));
+        BufferedImage small = ImageResizer.resize(image,
+                Math.max(1, (int) Math.round(image.getWidth() * scale)),
+                Math.max(1, (int) Math.round(image.getHeight() * scale)));
+
+        return new Placeholder(
+                dominantColor(small),
+                BlurHash.encode(small, BLUR_HASH_COMPONENTS_X, BLUR_HASH_COMPONENTS_Y));
+    }
+
+    /**
+     * 채널당 4비트로 양자화한 색상 중 가장 많은 구간의 평균 색상 (#rrggbb)
+     */
+    static String dominantColor(BufferedImage image) {
+        int[] pixels = image.getRGB(0, 0, image.getWidth(), image.getHeight(), null, 0, image.getWidth());
+        int[] counts = new int[4096];
+        long[] sumR = new long[4096];
+        long[] sumG = new long[4096];
+        long[] sumB = new long[4096];
+
+        for (int pixel : pixels) {
+            int r = (pixel >> 16) & 0xff;
+            int g = (pixel >> 8) & 0xff;
+            int b = pixel & 0xff;
+            int bucket = ((r >> 4) << 8) | ((g >> 4) << 4) | (b >> 4);
+            counts[bucket]++;
+            sumR[bucket] += r;
+            sumG[bucket] += g;
+            sumB[bucket] += b;
+        }
+
+        int dominant = 0;
+        for (int i = 1; i < counts.length; i++) {
+            if (counts[i] > counts[dominant]) {
+                dominant = i;
+            }
+        }
+
+        int count = Math.max(1, counts[dominant]);
+        return String.format("#%02x%02x%02x",
+                sumR[dominant] / count, sumG[dominant] / count, sumB[dominant] / count);
+    }
+
+    public record Placeholder(String color, String blurHash) {
+    }
+}
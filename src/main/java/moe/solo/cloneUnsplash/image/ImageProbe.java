@@ -0,0 +1,64 @@
+package moe.solo.cloneUnsplash.image;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.image.BufferedImage;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.function.Supplier;
+
+/**
+ * 이미지 헤더만 읽어 크기와 포맷 확인
+ * 픽셀을 디코딩하지 않으므로 원본 크기와 관계없이 메모리 사용량이 일정하다
+ * (헤더에 크기가 없는 경우에만 전체 디코딩하며, 그동안 호출자가 준 메모리 예산을 예약한다)
+ */
+public final class ImageProbe {
+
+    private ImageProbe() {
+    }
+
+    /**
+     * @param decodeBudget 전체 디코딩 직전에 호출되어 메모리 예산을 예약하고, 디코딩이 끝나면 닫힌다
+     */
+    public static ImageInfo probe(InputStream input, Supplier<? extends Closeable> decodeBudget) throws IOException {
+        try (ImageInputStream iis = ImageIO.createImageInputStream(input)) {
+            if (iis == null) {
+                throw new IOException("Unsupported image input");
+            }
+
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(iis);
+            if (!readers.hasNext()) {
+                throw new IOException("Unsupported image format");
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                String format = reader.getFormatName().toLowerCase();
+                try {
+                    // 실패 시 처음부터 다시 읽을 수 있도록 seekForwardOnly는 사용하지 않는다
+                    reader.setInput(iis, false, true);
+                    return new ImageInfo(reader.getWidth(0), reader.getHeight(0), format);
+                } catch (IOException | RuntimeException e) {
+                    // 헤더만으로 크기를 알 수 없는 경우에만 전체 디코딩
+                    iis.seek(0);
+                    reader.setInput(iis, true, false);
+                    try (Closeable reservation = decodeBudget.get()) {
+                        BufferedImage image = reader.read(0);
+                        return new ImageInfo(image.getWidth(), image.getHeight(), format);
+                    }
+                }
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * 이미지 크기와 포맷 (jpeg, png 등)
+     */
+    public record ImageInfo(int width, int height, String format) {
+    }
+}
@@ -0,0 +1,142 @@
+package moe.solo.cloneUnsplash.image;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+
+/**
+ * 이미지 축소 유틸리티
+ * 큰 이미지는 디코딩 단계에서 서브샘플링하여 원본 해상도의 픽셀 버퍼를 만들지 않는다
+ */
+public final class ImageResizer {
+
+    private ImageResizer() {
+    }
+
+    /**
+     * 너비와 높이가 각각 minWidth, minHeight 이상으로 유지되는 범위에서 서브샘플링하여 디코딩
+     */
+    public static DecodedImage readSubsampled(InputStream input, int minWidth, int minHeight) throws IOException {
+        try (ImageInputStream iis = ImageIO.createImageInputStream(input)) {
+            if (iis == null) {
+                throw new IOException("Unsupported image input");
+            }
+
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(iis);
+            if (!readers.hasNext()) {
+                throw new IOException("Unsupported image format");
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(iis, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+
+                int factor = subsamplingFactor(width, height, minWidth, minHeight);
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(factor, factor, 0, 0);
+
+                return new DecodedImage(reader.read(0, param), width, height);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * readSubsampled가 사용하는 서브샘플링 배율 (디코딩 결과 크기는 원본 크기 / 배율, 올림)
+     */
+    public static int subsamplingFactor(int width, int height, int minWidth, int minHeight) {
+        return Math.max(1, Math.min(width / Math.max(1, minWidth), height / Math.max(1, minHeight)));
+    }
+
+    /**
+     * 지정한 너비로 축소 (비율 유지)
+     * 한 번에 크게 줄이면 품질이 떨어지므로 절반씩 단계적으로 축소한다
+     */
+    public static BufferedImage resizeToWidth(BufferedImage source, int targetWidth) {
+        int targetHeight = Math.max(1, (int) Math.round((double) source.getHeight() * targetWidth / source.getWidth()));
+        return resize(source, targetWidth, targetHeight);
+    }
+
+    public static BufferedImage resize(BufferedImage source, int targetWidth, int targetHeight) {
+        BufferedImage current = source;
+        int width = source.getWidth();
+        int height = source.getHeight();
+
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+            if (width < targetWidth * 2 && height < targetHeight * 2) {
+                width = targetWidth;
+                height = targetHeight;
+            }
+            current = draw(current, width, height);
+        } while (width != targetWidth || height != targetHeight);
+
+        return current;
+    }
+
+    /**
+     * 가운데 기준으로 잘라내기
+     */
+    public static BufferedImage cropCenter(BufferedImage source, int width, int height) {
+        int x = Math.max(0, (source.getWidth() - width) / 2);
+        int y = Math.max(0, (source.getHeight() - height) / 2);
+        return source.getSubimage(x, y, Math.min(width, source.getWidth()), Math.min(height, source.getHeight()));
+    }
+
+    public static byte[] encodeJpeg(BufferedImage image, float quality) throws IOException {
+        Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName("jpeg");
+        ImageWriter writer = writers.next();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        try (ImageOutputStream ios = ImageIO.createImageOutputStream(output)) {
+            writer.setOutput(ios);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(quality);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+
+        return output.toByteArray();
+    }
+
+    private static BufferedImage draw(BufferedImage source, int width, int height) {
+        // JPEG 출력을 위해 알파 채널 없이 흰 배경 위에 그린다
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    /**
+     * 서브샘플링 디코딩 결과와 원본 크기
+     */
+    public record DecodedImage(BufferedImage image, int originalWidth, int originalHeight) {
+    }
+}
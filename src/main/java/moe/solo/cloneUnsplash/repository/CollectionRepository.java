@@ -17,4 +17,6 @@ public interface CollectionRepository extends JpaRepository<Collection, Long> {
     Page<Collection> findByIsPrivateFalseOrderByCreatedAtDesc(Pageable pageable);
 
     Page<Collection> findByUserAndIsPrivateFalse(User user, Pageable pageable);
+
+    Page<Collection> findByUserIdAndIsPrivateFalse(Long userId, Pageable pageable);
 }
@@ -5,6 +5,9 @@ import moe.solo.cloneUnsplash.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -18,6 +21,12 @@ public interface FollowRepository extends JpaRepository<Follow, Long> {
 
     void deleteByFollowerAndFollowing(User follower, User following);
 
+    boolean existsByFollowerIdAndFollowingId(Long followerId, Long followingId);
+
+    @Modifying
+    @Query("DELETE FROM Follow f WHERE f.follower.id = :followerId AND f.following.id = :followingId")
+    int deleteByFollowerIdAndFollowingId(@Param("followerId") Long followerId, @Param("followingId") Long followingId);
+
     Page<Follow> findByFollower(User follower, Pageable pageable);
 
     Page<Follow> findByFollowing(User following, Pageable pageable);
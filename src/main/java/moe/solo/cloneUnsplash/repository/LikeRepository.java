@@ -6,9 +6,14 @@ import moe.solo.cloneUnsplash.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Repository
 public interface LikeRepository extends JpaRepository<Like, Long> {
@@ -17,9 +22,29 @@ public interface LikeRepository extends JpaRepository<Like, Long> {
 
     boolean existsByUserAndPhoto(User user, Photo photo);
 
+    boolean existsByUserIdAndPhotoId(Long userId, Long photoId);
+
     void deleteByUserAndPhoto(User user, Photo photo);
 
+    /*
+    (user_id, photo_id) 유니크 제약을 이용한 좋아요 추가
+    이미 좋아요를 눌렀거나 사진이 없으면 0을 반환 (외래 키 위반은 사용자가 없는 경우뿐)
+    */
+    @Modifying
+    @Query(value = "INSERT INTO likes (user_id, photo_id, created_at) SELECT :userId, :photoId, CURRENT_TIMESTAMP WHERE EXISTS (SELECT 1 FROM photos WHERE id = :photoId) ON CONFLICT (user_id, photo_id) DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("userId") Long userId, @Param("photoId") Long photoId);
+
+    @Modifying
+    @Query("DELETE FROM Like l WHERE l.user.id = :userId AND l.photo.id = :photoId")
+    int deleteByUserIdAndPhotoId(@Param("userId") Long userId, @Param("photoId") Long photoId);
+
     Page<Like> findByUser(User user, Pageable pageable);
 
     long countByPhoto(Photo photo);
+
+    /*
+    주어진 사진 목록 중 사용자가 좋아요를 누른 사진 ID를 한 번에 조회
+    */
+    @Query("SELECT l.photo.id FROM Like l WHERE l.user.id = :userId AND l.photo.id IN :photoIds")
+    Set<Long> findLikedPhotoIds(@Param("userId") Long userId, @Param("photoIds") List<Long> photoIds);
 }
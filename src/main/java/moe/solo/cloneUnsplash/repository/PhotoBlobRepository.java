@@ -0,0 +1,53 @@
+package moe.solo.cloneUnsplash.repository;
+
+import moe.solo.cloneUnsplash.entity.PhotoBlob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface PhotoBlobRepository extends JpaRepository<PhotoBlob, String> {
+
+    @Query("SELECT b.objectKey FROM PhotoBlob b WHERE b.hash = :hash")
+    Optional<String> findObjectKeyByHash(@Param("hash") String hash);
+
+    /*
+    이미 저장된 파일이면 참조 카운트 증가 (없으면 0 반환)
+    */
+    @Modifying
+    @Query("UPDATE PhotoBlob b SET b.refCount = b.refCount + 1 WHERE b.hash = :hash")
+    int incrementRefCount(@Param("hash") String hash);
+
+    /*
+    새 파일 등록
+    동시에 같은 파일이 처음 업로드된 경우 먼저 등록된 행의 참조 카운트를 증가
+    */
+    @Modifying
+    @Query(value = "INSERT INTO photo_blobs (hash, object_key, file_size, ref_count, created_at) VALUES (:hash, :objectKey, :fileSize, 1, CURRENT_TIMESTAMP) ON CONFLICT (hash) DO UPDATE SET ref_count = photo_blobs.ref_count + 1", nativeQuery = true)
+    int insertOrIncrement(@Param("hash") String hash,
+            @Param("objectKey") String objectKey,
+            @Param("fileSize") Long fileSize);
+
+    /*
+    참조 해제 (참조 카운트가 없는 기존 파일이면 0 반환)
+    */
+    @Modifying
+    @Query("UPDATE PhotoBlob b SET b.refCount = b.refCount - 1 WHERE b.objectKey = :objectKey")
+    int decrementRefCount(@Param("objectKey") String objectKey);
+
+    @Query("SELECT b.refCount FROM PhotoBlob b WHERE b.objectKey = :objectKey")
+    Optional<Long> findRefCountByObjectKey(@Param("objectKey") String objectKey);
+
+    boolean existsByObjectKey(String objectKey);
+
+    /*
+    참조가 없는 파일 행 삭제 (PhotoImageCleaner가 S3 삭제를 마칠 때까지 행 잠금 유지)
+    */
+    @Modifying
+    @Query("DELETE FROM PhotoBlob b WHERE b.objectKey = :objectKey AND b.refCount <= 0")
+    int deleteUnreferenced(@Param("objectKey") String objectKey);
+}
@@ -1,13 +1,25 @@
 package moe.solo.cloneUnsplash.repository;
 
+import jakarta.persistence.QueryHint;
 import moe.solo.cloneUnsplash.entity.Photo;
 import moe.solo.cloneUnsplash.entity.User;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface PhotoRepository extends JpaRepository<Photo, Long> {
@@ -33,4 +45,171 @@ public interface PhotoRepository extends JpaRepository<Photo, Long> {
     Page<Photo> findAllByOrderByLikesCountDesc(Pageable pageable);
 
     Page<Photo> findAllByOrderByViewsCountDesc(Pageable pageable);
+
+    /*
+    카운터 원자적 증감 (엔티티를 로딩하지 않고 단일 UPDATE로 처리)
+    */
+    @Modifying
+    @Query("UPDATE Photo p SET p.likesCount = p.likesCount + 1 WHERE p.id = :photoId")
+    int incrementLikesCount(@Param("photoId") Long photoId);
+
+    @Modifying
+    @Query("UPDATE Photo p SET p.likesCount = p.likesCount - 1 WHERE p.id = :photoId AND p.likesCount > 0")
+    int decrementLikesCount(@Param("photoId") Long photoId);
+
+    @Modifying
+    @Query("UPDATE Photo p SET p.downloadsCount = p.downloadsCount + 1 WHERE p.id = :photoId")
+    int incrementDownloadsCount(@Param("photoId") Long photoId);
+
+    /*
+    업로드 후처리 결과 반영 (비동기 작업에서 호출)
+    같은 원본 파일을 공유하는 사진에 모두 반영한다
+    */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Photo p SET p.renditionWidths = :renditionWidths, p.thumbnailUrl = :thumbnailKey WHERE p.imageUrl = :imageKey")
+    int updateRenditions(@Param("imageKey") String imageKey,
+            @Param("renditionWidths") String renditionWidths,
+            @Param("thumbnailKey") String thumbnailKey);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Photo p SET p.color = :color, p.blurHash = :blurHash WHERE p.imageUrl = :imageKey")
+    int updatePlaceholder(@Param("imageKey") String imageKey,
+            @Param("color") String color,
+            @Param("blurHash") String blurHash);
+
+    Optional<Photo> findFirstByImageUrl(String imageUrl);
+
+    /*
+    후처리가 끝나지 않은 원본 파일 (id, imageUrl, width, height) - 파일별로 한 행
+    재시도 횟수를 다 썼거나 before 이후에 재시도한 파일은 제외
+    */
+    @Query("SELECT MIN(p.id), p.imageUrl, MIN(p.width), MIN(p.height) FROM Photo p " +
+            "WHERE p.blurHash IS NULL AND p.createdAt < :before AND p.renditionAttempts < :maxAttempts " +
+            "AND (p.renditionAttemptedAt IS NULL OR p.renditionAttemptedAt < :before) " +
+            "GROUP BY p.imageUrl ORDER BY MIN(p.id)")
+    List<Object[]> findImagesWithoutPlaceholder(@Param("before") LocalDateTime before,
+            @Param("maxAttempts") int maxAttempts, Pageable pageable);
+
+    /*
+    후처리 재시도 기록 (같은 원본 파일을 공유하는 사진에 모두 반영)
+    */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Photo p SET p.renditionAttempts = p.renditionAttempts + 1, p.renditionAttemptedAt = :now WHERE p.imageUrl IN :imageKeys")
+    int markRenditionAttempted(@Param("imageKeys") Collection<String> imageKeys, @Param("now") LocalDateTime now);
+
+    /*
+    트랜잭션 범위 advisory lock (여러 서버 중 한 곳에서만 작업하도록, 트랜잭션이 끝나면 해제)
+    */
+    @Query(value = "SELECT pg_try_advisory_xact_lock(:key)", nativeQuery = true)
+    boolean tryAdvisoryXactLock(@Param("key") long key);
+
+    boolean existsByImageUrl(String imageUrl);
+
+    boolean existsByUploadKey(String uploadKey);
+
+    /*
+    목록 조회용 ID 페이지 쿼리
+    사진 엔티티는 findAllWithUserAndTagsByIdIn으로 한 번에 로딩한다
+    */
+    @Query(value = "SELECT p.id FROM Photo p ORDER BY p.createdAt DESC",
+            countQuery = "SELECT COUNT(p) FROM Photo p")
+    Page<Long> findPageIds(Pageable pageable);
+
+    @Query(value = "SELECT p.id FROM Photo p JOIN p.tags t WHERE t.name = :tagName ORDER BY p.createdAt DESC",
+            countQuery = "SELECT COUNT(p) FROM Photo p JOIN p.tags t WHERE t.name = :tagName")
+    Page<Long> findPageIdsByTagName(@Param("tagName") String tagName, Pageable pageable);
+
+    @Query(value = "SELECT p.id FROM Photo p WHERE LOWER(p.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR LOWER(p.description) LIKE LOWER(CONCAT('%', :keyword, '%')) ORDER BY p.createdAt DESC",
+            countQuery = "SELECT COUNT(p) FROM Photo p WHERE LOWER(p.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR LOWER(p.description) LIKE LOWER(CONCAT('%', :keyword, '%'))")
+    Page<Long> searchPageIdsByKeyword(@Param("keyword") String keyword, Pageable pageable);
+
+    /*
+    전문 검색 (PostgreSQL 전용, PhotoFullTextIndex가 search_vector 컬럼을 준비한 경우에만 사용)
+    관련도 순, 같은 관련도는 최신순
+    */
+    @Query(value = "SELECT p.id FROM photos p, websearch_to_tsquery('simple', :keyword) q WHERE p.search_vector @@ q ORDER BY ts_rank(p.search_vector, q) DESC, p.created_at DESC, p.id DESC",
+            countQuery = "SELECT COUNT(*) FROM photos p WHERE p.search_vector @@ websearch_to_tsquery('simple', :keyword)",
+            nativeQuery = true)
+    Page<Long> searchPageIdsByFullText(@Param("keyword") String keyword, Pageable pageable);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = SEARCH_VECTOR_UPDATE + " WHERE p.id = :photoId", nativeQuery = true)
+    int refreshSearchVector(@Param("photoId") Long photoId);
+
+    /*
+    벡터가 없는 기존 행 채우기 - ID 범위 [fromId, toId) 단위로 나누어 각각 별도 트랜잭션에서 실행
+    */
+    @Transactional
+    @Modifying
+    @Query(value = SEARCH_VECTOR_UPDATE + " WHERE p.id >= :fromId AND p.id < :toId AND p.search_vector IS NULL", nativeQuery = true)
+    int refreshMissingSearchVectors(@Param("fromId") long fromId, @Param("toId") long toId);
+
+    @Query("SELECT MAX(p.id) FROM Photo p")
+    Long findMaxId();
+
+    String SEARCH_VECTOR_UPDATE = """
+            UPDATE photos p SET search_vector =
+                setweight(to_tsvector('simple', coalesce(p.title, '')), 'A')
+                || setweight(to_tsvector('simple', coalesce(p.description, '')), 'B')
+                || setweight(to_tsvector('simple', coalesce((
+                    SELECT string_agg(t.name, ' ')
+                    FROM photo_tags pt JOIN tags t ON t.id = pt.tag_id
+                    WHERE pt.photo_id = p.id), '')), 'C')
+            """;
+
+    /*
+    메모리 검색 색인 구축용 (사진별 태그 수만큼 행이 반복됨, ID 순)
+    */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT p.id, p.title, p.description, t.name FROM Photo p LEFT JOIN p.tags t ORDER BY p.id")
+    Stream<Object[]> streamSearchDocuments();
+
+    /*
+    태그 비트맵 구축용 (photoId, tagName) - 태그가 없는 사진은 tagName이 null
+    */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT p.id, t.name FROM Photo p LEFT JOIN p.tags t")
+    Stream<Object[]> streamTagAssignments();
+
+    @Query(value = "SELECT p.id FROM Photo p WHERE p.user.id = :userId ORDER BY p.createdAt DESC",
+            countQuery = "SELECT COUNT(p) FROM Photo p WHERE p.user.id = :userId")
+    Page<Long> findPageIdsByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    /*
+    커서(keyset) 기반 ID 조회 - (createdAt, id) 내림차순
+    OFFSET과 count 쿼리 없이 커서 이후의 ID만 조회한다
+    */
+    @Query("SELECT p.id FROM Photo p ORDER BY p.createdAt DESC, p.id DESC")
+    List<Long> findFirstIds(Pageable pageable);
+
+    @Query("SELECT p.id FROM Photo p WHERE p.createdAt <= :createdAt AND (p.createdAt < :createdAt OR p.id < :id) ORDER BY p.createdAt DESC, p.id DESC")
+    List<Long> findIdsBefore(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
+    @Query("SELECT p.id FROM Photo p JOIN p.tags t WHERE t.name = :tagName ORDER BY p.createdAt DESC, p.id DESC")
+    List<Long> findFirstIdsByTagName(@Param("tagName") String tagName, Pageable pageable);
+
+    @Query("SELECT p.id FROM Photo p JOIN p.tags t WHERE t.name = :tagName AND p.createdAt <= :createdAt AND (p.createdAt < :createdAt OR p.id < :id) ORDER BY p.createdAt DESC, p.id DESC")
+    List<Long> findIdsByTagNameBefore(@Param("tagName") String tagName, @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
+    @Query("SELECT p.id FROM Photo p WHERE p.user.id = :userId ORDER BY p.createdAt DESC, p.id DESC")
+    List<Long> findFirstIdsByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("SELECT p.id FROM Photo p WHERE p.user.id = :userId AND p.createdAt <= :createdAt AND (p.createdAt < :createdAt OR p.id < :id) ORDER BY p.createdAt DESC, p.id DESC")
+    List<Long> findIdsByUserIdBefore(@Param("userId") Long userId, @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
+    /*
+    업로더와 태그를 조인하여 사진 목록을 한 번에 로딩 (N+1 방지)
+    */
+    @EntityGraph(attributePaths = { "user", "tags" })
+    @Query("SELECT p FROM Photo p WHERE p.id IN :ids")
+    List<Photo> findAllWithUserAndTagsByIdIn(@Param("ids") List<Long> ids);
 }
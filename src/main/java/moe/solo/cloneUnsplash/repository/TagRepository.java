@@ -2,8 +2,11 @@ package moe.solo.cloneUnsplash.repository;
 
 import moe.solo.cloneUnsplash.entity.Tag;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -12,4 +15,12 @@ public interface TagRepository extends JpaRepository<Tag, Long> {
     Optional<Tag> findByName(String name);
 
     boolean existsByName(String name);
+
+    List<Tag> findAllByNameIn(Collection<String> names);
+
+    /*
+    태그 자동완성 색인 구축용 (태그 이름, 사용 중인 사진 수)
+    */
+    @Query("SELECT t.name, COUNT(p) FROM Tag t LEFT JOIN t.photos p GROUP BY t.id, t.name")
+    List<Object[]> findAllNamesWithPhotoCount();
 }
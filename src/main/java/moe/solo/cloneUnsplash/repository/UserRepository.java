@@ -2,6 +2,9 @@ package moe.solo.cloneUnsplash.repository;
 
 import moe.solo.cloneUnsplash.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -16,4 +19,49 @@ public interface UserRepository extends JpaRepository<User, Long> {
     boolean existsByUsername(String username);
 
     boolean existsByEmail(String email);
+
+    /*
+    프로필 통계 카운터 원자적 증감
+    */
+    @Modifying
+    @Query("UPDATE User u SET u.photosCount = u.photosCount + :delta WHERE u.id = :userId")
+    int adjustPhotosCount(@Param("userId") Long userId, @Param("delta") long delta);
+
+    @Modifying
+    @Query("UPDATE User u SET u.collectionsCount = u.collectionsCount + :delta WHERE u.id = :userId")
+    int adjustCollectionsCount(@Param("userId") Long userId, @Param("delta") long delta);
+
+    @Modifying
+    @Query("UPDATE User u SET u.followersCount = u.followersCount + :delta WHERE u.id = :userId")
+    int adjustFollowersCount(@Param("userId") Long userId, @Param("delta") long delta);
+
+    @Modifying
+    @Query("UPDATE User u SET u.followingCount = u.followingCount + :delta WHERE u.id = :userId")
+    int adjustFollowingCount(@Param("userId") Long userId, @Param("delta") long delta);
+
+    /*
+    집계 쿼리로 프로필 통계 카운터 재계산 (값이 어긋난 행만 갱신)
+    */
+    @Modifying
+    @Query(value = """
+            UPDATE users u
+            SET photos_count = s.photos_count,
+                collections_count = s.collections_count,
+                followers_count = s.followers_count,
+                following_count = s.following_count
+            FROM (
+                SELECT u2.id,
+                       (SELECT COUNT(*) FROM photos p WHERE p.user_id = u2.id) AS photos_count,
+                       (SELECT COUNT(*) FROM collections c WHERE c.user_id = u2.id) AS collections_count,
+                       (SELECT COUNT(*) FROM follows f WHERE f.following_id = u2.id) AS followers_count,
+                       (SELECT COUNT(*) FROM follows f WHERE f.follower_id = u2.id) AS following_count
+                FROM users u2
+            ) s
+            WHERE u.id = s.id
+              AND (u.photos_count <> s.photos_count
+                OR u.collections_count <> s.collections_count
+                OR u.followers_count <> s.followers_count
+                OR u.following_count <> s.following_count)
+            """, nativeQuery = true)
+    int reconcileStats();
 }
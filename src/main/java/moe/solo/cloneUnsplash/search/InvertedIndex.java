@@ -0,0 +1,258 @@
+package moe.solo.cloneUnsplash.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 사진 제목, 설명, 태그 토큰 -> 사진 ID 역색인
+ * 검색어의 마지막 토큰은 접두어로 (MIN_PREFIX_LENGTH 이상일 때), 나머지는 정확히 일치하는 토큰으로 찾아 교집합을 구한다
+ */
+public class InvertedIndex {
+
+    /*
+    검색어의 마지막 토큰을 접두어로 찾는 최소 길이 (더 짧으면 정확히 일치하는 토큰만)
+    */
+    static final int MIN_PREFIX_LENGTH = 3;
+
+    private final NavigableMap<String, PostingList> postings = new TreeMap<>();
+
+    /*
+    사진별 색인된 토큰 (갱신/삭제 시 기존 토큰 제거용)
+    */
+    private final Map<Long, String[]> documents = new HashMap<>();
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * 사진 색인 (이미 있으면 교체)
+     */
+    public void put(long photoId, Collection<String> texts) {
+        Set<String> terms = new LinkedHashSet<>();
+        for (String text : texts) {
+            terms.addAll(tokenize(text));
+        }
+
+        lock.writeLock().lock();
+        try {
+            removeInternal(photoId);
+            String[] indexed = new String[terms.size()];
+            int i = 0;
+            for (String term : terms) {
+                // 같은 토큰 문자열은 사전의 키 인스턴스를 공유
+                Map.Entry<String, PostingList> entry = postings.ceilingEntry(term);
+                if (entry == null || !entry.getKey().equals(term)) {
+                    postings.put(term, new PostingList());
+                    entry = postings.ceilingEntry(term);
+                }
+                entry.getValue().add(photoId);
+                indexed[i++] = entry.getKey();
+            }
+            documents.put(photoId, indexed);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long photoId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(photoId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean contains(long photoId) {
+        lock.readLock().lock();
+        try {
+            return documents.containsKey(photoId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 검색어의 모든 토큰을 포함하는 사진 ID (오름차순)
+     */
+    public long[] search(String query) {
+        List<String> terms = tokenize(query);
+        if (terms.isEmpty()) {
+            return new long[0];
+        }
+
+        lock.readLock().lock();
+        try {
+            List<long[]> lists = new ArrayList<>();
+            List<PostingList> exact = new ArrayList<>();
+            for (int i = 0; i < terms.size() - 1; i++) {
+                PostingList list = postings.get(terms.get(i));
+                if (list == null) {
+                    return new long[0];
+                }
+                exact.add(list);
+            }
+
+            long[] prefixMatches = prefixUnion(terms.get(terms.size() - 1));
+            if (prefixMatches.length == 0) {
+                return prefixMatches;
+            }
+            lists.add(prefixMatches);
+
+            // 가장 짧은 목록부터 교집합
+            exact.sort((a, b) -> Integer.compare(a.size(), b.size()));
+            long[] result = exact.isEmpty() || prefixMatches.length <= exact.get(0).size()
+                    ? prefixMatches
+                    : exact.get(0).toArray();
+            for (PostingList list : exact) {
+                result = list.retainAll(result, result.length);
+                if (result.length == 0) {
+                    return result;
+                }
+            }
+            if (result != prefixMatches) {
+                result = retainSorted(result, prefixMatches);
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 오름차순 ID를 뒤에서부터 잘라 최신순 페이지 구성 (offset이 결과 수를 넘으면 빈 목록)
+     */
+    public static List<Long> newestFirst(long[] ascending, long offset, int size) {
+        int from = ascending.length - 1 - (int) Math.min(offset, ascending.length);
+        int to = Math.max(from - size, -1);
+        List<Long> page = new ArrayList<>(Math.max(from - to, 0));
+        for (int i = from; i > to; i--) {
+            page.add(ascending[i]);
+        }
+        return page;
+    }
+
+    /*
+    접두어로 시작하는 모든 토큰의 ID 합집합
+    접두어가 짧으면 펼쳐지는 토큰이 너무 많으므로 정확히 일치하는 토큰만 찾고,
+    여러 목록은 이미 정렬되어 있으므로 합쳐서 다시 정렬하지 않고 병합한다
+    */
+    private long[] prefixUnion(String prefix) {
+        Collection<PostingList> matches;
+        if (prefix.length() < MIN_PREFIX_LENGTH) {
+            PostingList exact = postings.get(prefix);
+            matches = exact != null ? List.of(exact) : List.of();
+        } else {
+            matches = postings.subMap(prefix, true, prefix + Character.MAX_VALUE, false).values();
+        }
+        if (matches.isEmpty()) {
+            return new long[0];
+        }
+        if (matches.size() == 1) {
+            return matches.iterator().next().toArray();
+        }
+
+        PostingList[] lists = matches.toArray(new PostingList[0]);
+        int[] positions = new int[lists.length];
+        PriorityQueue<Integer> heads = new PriorityQueue<>(lists.length,
+                Comparator.comparingLong(i -> lists[i].get(positions[i])));
+        int total = 0;
+        for (int i = 0; i < lists.length; i++) {
+            total += lists[i].size();
+            heads.add(i);
+        }
+
+        long[] union = new long[total];
+        int count = 0;
+        while (!heads.isEmpty()) {
+            int i = heads.poll();
+            long id = lists[i].get(positions[i]++);
+            if (count == 0 || union[count - 1] != id) {
+                union[count++] = id;
+            }
+            if (positions[i] < lists[i].size()) {
+                heads.add(i);
+            }
+        }
+        return Arrays.copyOf(union, count);
+    }
+
+    private static long[] retainSorted(long[] a, long[] b) {
+        long[] result = new long[Math.min(a.length, b.length)];
+        int i = 0;
+        int j = 0;
+        int count = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] == b[j]) {
+                result[count++] = a[i];
+                i++;
+                j++;
+            } else if (a[i] < b[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    private void removeInternal(long photoId) {
+        String[] terms = documents.remove(photoId);
+        if (terms == null) {
+            return;
+        }
+        for (String term : terms) {
+            PostingList list = postings.get(term);
+            if (list != null) {
+                list.remove(photoId);
+                if (list.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+
+    /**
+     * 소문자로 바꾼 뒤 문자/숫자가 아닌 문자로 분리
+     */
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+
+        String lower = text.toLowerCase(Locale.ROOT);
+        int start = -1;
+        for (int i = 0; i <= lower.length(); i++) {
+            boolean letter = i < lower.length() && Character.isLetterOrDigit(lower.charAt(i));
+            if (letter && start < 0) {
+                start = i;
+            } else if (!letter && start >= 0) {
+                tokens.add(lower.substring(start, i));
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+}
@@ -0,0 +1,95 @@
+package moe.solo.cloneUnsplash.search;
+
+import java.util.Arrays;
+
+/**
+ * 오름차순으로 정렬된 사진 ID 목록 (long 배열 기반)
+ * 새 사진은 대부분 가장 큰 ID로 추가되므로 끝에 붙이는 경우를 빠르게 처리한다
+ */
+final class PostingList {
+
+    private static final long[] EMPTY = new long[0];
+
+    private long[] ids = EMPTY;
+    private int size;
+
+    void add(long id) {
+        if (size > 0 && ids[size - 1] >= id) {
+            int index = Arrays.binarySearch(ids, 0, size, id);
+            if (index >= 0) {
+                return;
+            }
+            insertAt(-index - 1, id);
+            return;
+        }
+        ensureCapacity();
+        ids[size++] = id;
+    }
+
+    void remove(long id) {
+        int index = Arrays.binarySearch(ids, 0, size, id);
+        if (index >= 0) {
+            System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+            size--;
+        }
+    }
+
+    boolean contains(long id) {
+        return Arrays.binarySearch(ids, 0, size, id) >= 0;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    long get(int index) {
+        return ids[index];
+    }
+
+    long[] toArray() {
+        return Arrays.copyOf(ids, size);
+    }
+
+    /*
+    후보 목록 중 이 목록에도 있는 ID만 남김 (후보가 작을수록 빠름)
+    */
+    long[] retainAll(long[] candidates, int length) {
+        long[] result = new long[length];
+        int count = 0;
+        int from = 0;
+        for (int i = 0; i < length; i++) {
+            int index = Arrays.binarySearch(ids, from, size, candidates[i]);
+            if (index >= 0) {
+                result[count++] = candidates[i];
+                from = index + 1;
+            } else {
+                from = -index - 1;
+            }
+            if (from >= size) {
+                break;
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    void copyInto(long[] target, int offset) {
+        System.arraycopy(ids, 0, target, offset, size);
+    }
+
+    private void insertAt(int index, long id) {
+        ensureCapacity();
+        System.arraycopy(ids, index, ids, index + 1, size - index);
+        ids[index] = id;
+        size++;
+    }
+
+    private void ensureCapacity() {
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, Math.max(4, size + (size >> 1)));
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package moe.solo.cloneUnsplash.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.PriorityQueue;
+
+/**
+ * 접두어 자동완성용 불변 색인 - 소문자 키로 정렬한 배열과 사용 횟수 최대값 세그먼트 트리
+ * 접두어 범위를 이진 탐색으로 찾고, 범위 안에서 사용 횟수가 큰 순서로 limit개만 꺼낸다
+ * (범위 크기와 관계없이 O(limit * log n))
+ */
+public final class PrefixSuggester {
+
+    public record Suggestion(String name, long count) {
+    }
+
+    private final String[] keys;
+    private final String[] names;
+    private final long[] counts;
+
+    /*
+    구간별 사용 횟수가 가장 큰 항목의 인덱스 (리프는 size부터)
+    */
+    private final int[] tree;
+    private final int size;
+
+    public PrefixSuggester(List<Suggestion> entries) {
+        Suggestion[] sorted = entries.toArray(new Suggestion[0]);
+        Arrays.sort(sorted, Comparator.comparing((Suggestion entry) -> key(entry.name())));
+
+        size = sorted.length;
+        keys = new String[size];
+        names = new String[size];
+        counts = new long[size];
+        for (int i = 0; i < size; i++) {
+            keys[i] = key(sorted[i].name());
+            names[i] = sorted[i].name();
+            counts[i] = sorted[i].count();
+        }
+
+        tree = new int[Math.max(2 * size, 2)];
+        for (int i = 0; i < size; i++) {
+            tree[size + i] = i;
+        }
+        for (int i = size - 1; i > 0; i--) {
+            tree[i] = better(tree[2 * i], tree[2 * i + 1]);
+        }
+    }
+
+    public static PrefixSuggester empty() {
+        return new PrefixSuggester(List.of());
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean contains(String name) {
+        return Arrays.binarySearch(keys, key(name)) >= 0;
+    }
+
+    /**
+     * 접두어로 시작하는 항목 중 사용 횟수 상위 limit개
+     */
+    public List<Suggestion> suggest(String prefix, int limit) {
+        String lower = key(prefix);
+        int from = lowerBound(lower);
+        int to = lowerBound(lower + Character.MAX_VALUE);
+        List<Suggestion> result = new ArrayList<>(Math.min(limit, to - from));
+        if (from >= to) {
+            return result;
+        }
+
+        // 구간 [from, to)의 최대값을 꺼내고 나머지 좌우 구간을 다시 후보로 넣음
+        PriorityQueue<int[]> ranges = new PriorityQueue<>((a, b) -> compare(b[2], a[2]));
+        ranges.add(new int[] { from, to, maxIndex(from, to) });
+        while (!ranges.isEmpty() && result.size() < limit) {
+            int[] range = ranges.poll();
+            int index = range[2];
+            result.add(new Suggestion(names[index], counts[index]));
+            if (range[0] < index) {
+                ranges.add(new int[] { range[0], index, maxIndex(range[0], index) });
+            }
+            if (index + 1 < range[1]) {
+                ranges.add(new int[] { index + 1, range[1], maxIndex(index + 1, range[1]) });
+            }
+        }
+        return result;
+    }
+
+    private int maxIndex(int from, int to) {
+        int best = from;
+        for (int left = from + size, right = to + size; left < right; left >>= 1, right >>= 1) {
+            if ((left & 1) == 1) {
+                best = better(best, tree[left++]);
+            }
+            if ((right & 1) == 1) {
+                best = better(best, tree[--right]);
+            }
+        }
+        return best;
+    }
+
+    /*
+    사용 횟수가 많은 쪽, 같으면 이름순으로 앞선 쪽
+    */
+    private int better(int a, int b) {
+        return compare(a, b) >= 0 ? a : b;
+    }
+
+    private int compare(int a, int b) {
+        if (counts[a] != counts[b]) {
+            return Long.compare(counts[a], counts[b]);
+        }
+        return Integer.compare(b, a);
+    }
+
+    private int lowerBound(String key) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid].compareTo(key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    public static String key(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+}
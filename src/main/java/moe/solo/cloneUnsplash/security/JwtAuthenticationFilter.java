@@ -4,6 +4,7 @@ import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -23,6 +24,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
     private final UserDetailsService userDetailsService;
+    private final VerifiedTokenCache verifiedTokenCache;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -31,7 +33,6 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         final String authHeader = request.getHeader("Authorization");
         final String jwt;
-        final String username;
 
         // Authorization 헤더가 없거나 Bearer로 시작하지 않으면 다음 필터로
         if (authHeader == null || !authHeader.startsWith("Bearer ")) {
@@ -43,21 +44,29 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         jwt = authHeader.substring(7);
 
         try {
-            username = jwtUtil.extractUsername(jwt);
+            // 아직 인증되지 않은 경우
+            if (SecurityContextHolder.getContext().getAuthentication() == null) {
+                // 이미 검증된 토큰이면 캐시된 사용자 정보를 사용
+                UserDetails userDetails = verifiedTokenCache.get(jwt);
 
-            // 사용자명이 있고, 아직 인증되지 않은 경우
-            if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+                if (userDetails == null) {
+                    // 토큰 유효성 검증 (서명, 만료)
+                    Claims claims = jwtUtil.parseVerifiedClaims(jwt);
+                    Long userId = jwtUtil.extractUserId(claims);
 
-                // 토큰 유효성 검증
-                if (jwtUtil.validateToken(jwt, userDetails.getUsername())) {
-                    UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
-                            userDetails,
-                            null,
-                            userDetails.getAuthorities());
-                    authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                    SecurityContextHolder.getContext().setAuthentication(authToken);
+                    // 사용자 ID 클레임이 있으면 DB 조회 없이 인증 정보 생성
+                    userDetails = userId != null
+                            ? new UserPrincipal(userId, claims.getSubject(), null)
+                            : userDetailsService.loadUserByUsername(claims.getSubject());
+                    verifiedTokenCache.put(jwt, userDetails, claims.getExpiration());
                 }
+
+                UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
+                        userDetails,
+                        null,
+                        userDetails.getAuthorities());
+                authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                SecurityContextHolder.getContext().setAuthentication(authToken);
             }
         } catch (Exception e) {
             log.error("Cannot set user authentication: {}", e.getMessage());
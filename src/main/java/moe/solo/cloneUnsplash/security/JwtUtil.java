@@ -1,7 +1,12 @@
 package moe.solo.cloneUnsplash.security;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -12,21 +17,43 @@ import java.nio.charset.StandardCharsets;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 @Component
 @Slf4j
 public class JwtUtil {
 
-    @Value("${jwt.secret}")
-    private String secret;
+    /*
+    사용자 ID 클레임
+    */
+    public static final String USER_ID_CLAIM = "uid";
 
-    @Value("${jwt.expiration}")
-    private Long expiration;
+    private final Long expiration;
 
-    private SecretKey getSigningKey() {
-        byte[] keyBytes = secret.getBytes(StandardCharsets.UTF_8);
-        return new SecretKeySpec(keyBytes, "HmacSHA256");
+    /*
+    서명 키와 파서는 불변이므로 시작 시 한 번만 생성하여 재사용
+    */
+    private final SecretKey signingKey;
+    private final JwtParser jwtParser;
+
+    private final Timer verificationTimer;
+    private final Counter verificationFailureCounter;
+
+    public JwtUtil(@Value("${jwt.secret}") String secret,
+            @Value("${jwt.expiration}") Long expiration,
+            MeterRegistry meterRegistry) {
+        this.expiration = expiration;
+        this.signingKey = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256");
+        this.jwtParser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
+        this.verificationTimer = Timer.builder("jwt.verification")
+                .description("JWT 서명 검증")
+                .register(meterRegistry);
+        this.verificationFailureCounter = Counter.builder("jwt.verification.failures")
+                .description("JWT 검증 실패")
+                .register(meterRegistry);
     }
 
     public String extractUsername(String token) {
@@ -42,20 +69,37 @@ public class JwtUtil {
         return claimsResolver.apply(claims);
     }
 
+    /**
+     * 토큰을 한 번만 파싱하여 서명과 만료를 함께 검증
+     * 유효하지 않거나 만료된 토큰이면 JwtException 발생
+     */
+    public Claims parseVerifiedClaims(String token) {
+        return extractAllClaims(token);
+    }
+
     private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        long start = System.nanoTime();
+        try {
+            return jwtParser.parseSignedClaims(token).getPayload();
+        } catch (JwtException | IllegalArgumentException e) {
+            verificationFailureCounter.increment();
+            throw e;
+        } finally {
+            verificationTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
     }
 
-    private Boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    /**
+     * 사용자 ID 클레임 추출 (클레임이 없는 이전 토큰이면 null)
+     */
+    public Long extractUserId(Claims claims) {
+        Object userId = claims.get(USER_ID_CLAIM);
+        return userId instanceof Number number ? number.longValue() : null;
     }
 
-    public String generateToken(String username) {
+    public String generateToken(Long userId, String username) {
         Map<String, Object> claims = new HashMap<>();
+        claims.put(USER_ID_CLAIM, userId);
         return createToken(claims, username);
     }
 
@@ -68,12 +112,12 @@ public class JwtUtil {
                 .subject(subject)
                 .issuedAt(now)
                 .expiration(expiryDate)
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
     public Boolean validateToken(String token, String username) {
-        final String extractedUsername = extractUsername(token);
-        return (extractedUsername.equals(username) && !isTokenExpired(token));
+        final Claims claims = extractAllClaims(token);
+        return (claims.getSubject().equals(username) && !claims.getExpiration().before(new Date()));
     }
 }
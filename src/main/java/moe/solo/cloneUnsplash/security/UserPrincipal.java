@@ -0,0 +1,31 @@
+package moe.solo.cloneUnsplash.security;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * 인증된 사용자 정보
+ * JWT 클레임의 사용자 ID를 포함하여 서비스에서 사용자 조회 없이 사용할 수 있도록 한다
+ */
+@Getter
+@AllArgsConstructor
+public class UserPrincipal implements UserDetails {
+
+    private final Long id;
+    private final String username;
+
+    /*
+    JWT 클레임으로 생성한 경우 null
+    */
+    private final String password;
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return Collections.emptyList();
+    }
+}
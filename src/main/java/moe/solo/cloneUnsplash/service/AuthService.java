@@ -47,7 +47,7 @@ public class AuthService {
         log.info("New user registered: {}", user.getUsername());
 
         // JWT 토큰 생성
-        String token = jwtUtil.generateToken(user.getUsername());
+        String token = jwtUtil.generateToken(user.getId(), user.getUsername());
 
         return AuthResponse.builder()
                 .token(token)
@@ -69,7 +69,7 @@ public class AuthService {
                 .orElseThrow(() -> new BadRequestException("사용자를 찾을 수 없습니다"));
 
         // JWT 토큰 생성
-        String token = jwtUtil.generateToken(user.getUsername());
+        String token = jwtUtil.generateToken(user.getId(), user.getUsername());
 
         log.info("User logged in: {}", user.getUsername());
 
@@ -34,9 +34,8 @@ public class CollectionService {
     private final S3Service s3Service;
 
     @Transactional
-    public CollectionResponse createCollection(CollectionRequest request, String username) {
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new ResourceNotFoundException("사용자를 찾을 수 없습니다"));
+    public CollectionResponse createCollection(CollectionRequest request, Long currentUserId) {
+        User user = userRepository.getReferenceById(currentUserId);
 
         Collection collection = Collection.builder()
                 .title(request.getTitle())
@@ -46,17 +45,18 @@ public class CollectionService {
                 .build();
 
         collection = collectionRepository.save(collection);
-        log.info("Collection created: {} by user {}", collection.getId(), username);
+        userRepository.adjustCollectionsCount(currentUserId, 1);
+        log.info("Collection created: {} by user {}", collection.getId(), currentUserId);
 
         return mapToCollectionResponse(collection);
     }
 
-    public CollectionResponse getCollection(Long collectionId, String username) {
+    public CollectionResponse getCollection(Long collectionId, Long currentUserId) {
         Collection collection = collectionRepository.findById(collectionId)
                 .orElseThrow(() -> new ResourceNotFoundException("컬렉션을 찾을 수 없습니다"));
 
         // 비공개 컬렉션은 본인만 조회 가능
-        if (collection.getIsPrivate() && !collection.getUser().getUsername().equals(username)) {
+        if (collection.getIsPrivate() && !collection.getUser().getId().equals(currentUserId)) {
             throw new UnauthorizedException("이 컬렉션에 접근할 권한이 없습니다");
         }
 
@@ -68,28 +68,29 @@ public class CollectionService {
         return mapToPageResponse(collectionPage);
     }
 
-    public PageResponse<CollectionResponse> getUserCollections(Long userId, Pageable pageable, String currentUsername) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("사용자를 찾을 수 없습니다"));
+    public PageResponse<CollectionResponse> getUserCollections(Long userId, Pageable pageable, Long currentUserId) {
+        if (!userRepository.existsById(userId)) {
+            throw new ResourceNotFoundException("사용자를 찾을 수 없습니다");
+        }
 
         Page<Collection> collectionPage;
 
         // 본인의 컬렉션이면 전체 조회, 아니면 공개 컬렉션만
-        if (user.getUsername().equals(currentUsername)) {
-            collectionPage = collectionRepository.findByUser(user, pageable);
+        if (userId.equals(currentUserId)) {
+            collectionPage = collectionRepository.findByUserId(userId, pageable);
         } else {
-            collectionPage = collectionRepository.findByUserAndIsPrivateFalse(user, pageable);
+            collectionPage = collectionRepository.findByUserIdAndIsPrivateFalse(userId, pageable);
         }
 
         return mapToPageResponse(collectionPage);
     }
 
     @Transactional
-    public CollectionResponse updateCollection(Long collectionId, CollectionRequest request, String username) {
+    public CollectionResponse updateCollection(Long collectionId, CollectionRequest request, Long currentUserId) {
         Collection collection = collectionRepository.findById(collectionId)
                 .orElseThrow(() -> new ResourceNotFoundException("컬렉션을 찾을 수 없습니다"));
 
-        if (!collection.getUser().getUsername().equals(username)) {
+        if (!collection.getUser().getId().equals(currentUserId)) {
             throw new UnauthorizedException("본인의 컬렉션만 수정할 수 있습니다");
         }
 
@@ -110,24 +111,25 @@ public class CollectionService {
     }
 
     @Transactional
-    public void deleteCollection(Long collectionId, String username) {
+    public void deleteCollection(Long collectionId, Long currentUserId) {
         Collection collection = collectionRepository.findById(collectionId)
                 .orElseThrow(() -> new ResourceNotFoundException("컬렉션을 찾을 수 없습니다"));
 
-        if (!collection.getUser().getUsername().equals(username)) {
+        if (!collection.getUser().getId().equals(currentUserId)) {
             throw new UnauthorizedException("본인의 컬렉션만 삭제할 수 있습니다");
         }
 
         collectionRepository.delete(collection);
+        userRepository.adjustCollectionsCount(currentUserId, -1);
         log.info("Collection deleted: {}", collectionId);
     }
 
     @Transactional
-    public void addPhotoToCollection(Long collectionId, AddPhotoToCollectionRequest request, String username) {
+    public void addPhotoToCollection(Long collectionId, AddPhotoToCollectionRequest request, Long currentUserId) {
         Collection collection = collectionRepository.findById(collectionId)
                 .orElseThrow(() -> new ResourceNotFoundException("컬렉션을 찾을 수 없습니다"));
 
-        if (!collection.getUser().getUsername().equals(username)) {
+        if (!collection.getUser().getId().equals(currentUserId)) {
             throw new UnauthorizedException("본인의 컬렉션만 수정할 수 있습니다");
         }
 
@@ -144,11 +146,11 @@ public class CollectionService {
     }
 
     @Transactional
-    public void removePhotoFromCollection(Long collectionId, Long photoId, String username) {
+    public void removePhotoFromCollection(Long collectionId, Long photoId, Long currentUserId) {
         Collection collection = collectionRepository.findById(collectionId)
                 .orElseThrow(() -> new ResourceNotFoundException("컬렉션을 찾을 수 없습니다"));
 
-        if (!collection.getUser().getUsername().equals(username)) {
+        if (!collection.getUser().getId().equals(currentUserId)) {
             throw new UnauthorizedException("본인의 컬렉션만 수정할 수 있습니다");
         }
 
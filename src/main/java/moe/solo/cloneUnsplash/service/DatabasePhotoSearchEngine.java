@@ -0,0 +1,37 @@
+package moe.solo.cloneUnsplash.service;
+
+import lombok.RequiredArgsConstructor;
+import moe.solo.cloneUnsplash.entity.Photo;
+import moe.solo.cloneUnsplash.repository.PhotoRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+/**
+ * DB 검색 - 전문 검색 인덱스가 준비되어 있으면 관련도 순, 아니면 LIKE 검색
+ * 검색 대상이 테이블 자체이므로 등록/삭제 시 따로 반영할 것이 없다 (search_vector는 PhotoFullTextIndex가 갱신)
+ */
+@Component
+@ConditionalOnProperty(name = "photo.search.backend", havingValue = "database", matchIfMissing = true)
+@RequiredArgsConstructor
+public class DatabasePhotoSearchEngine implements PhotoSearchEngine {
+
+    private final PhotoRepository photoRepository;
+    private final PhotoFullTextIndex fullTextIndex;
+
+    @Override
+    public Page<Long> search(String keyword, Pageable pageable) {
+        return fullTextIndex.isEnabled() && !keyword.isBlank()
+                ? photoRepository.searchPageIdsByFullText(keyword, pageable)
+                : photoRepository.searchPageIdsByKeyword(keyword, pageable);
+    }
+
+    @Override
+    public void index(Photo photo) {
+    }
+
+    @Override
+    public void remove(Long photoId) {
+    }
+}
@@ -9,8 +9,15 @@ import moe.solo.cloneUnsplash.exception.ResourceNotFoundException;
 import moe.solo.cloneUnsplash.repository.DownloadRepository;
 import moe.solo.cloneUnsplash.repository.PhotoRepository;
 import moe.solo.cloneUnsplash.repository.UserRepository;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+
+import java.time.Instant;
+import java.util.Objects;
 
 @Service
 @RequiredArgsConstructor
@@ -20,28 +27,67 @@ public class DownloadService {
     private final DownloadRepository downloadRepository;
     private final PhotoRepository photoRepository;
     private final UserRepository userRepository;
+    private final S3Service s3Service;
 
-    @Transactional
-    public void recordDownload(Long photoId, String username, String ipAddress) {
+    /**
+     * 다운로드할 원본 파일 정보 (S3 HEAD)
+     */
+    public PhotoFile getPhotoFile(Long photoId) {
         Photo photo = photoRepository.findById(photoId)
                 .orElseThrow(() -> new ResourceNotFoundException("사진을 찾을 수 없습니다"));
 
-        User user = username != null
-                ? userRepository.findByUsername(username).orElse(null)
+        HeadObjectResponse object = s3Service.headFile(photo.getImageUrl())
+                .orElseThrow(() -> new ResourceNotFoundException("사진 파일을 찾을 수 없습니다"));
+
+        return new PhotoFile(photo.getImageUrl(), object.contentLength(), object.contentType(),
+                object.eTag(), Objects.requireNonNullElse(object.lastModified(), Instant.EPOCH));
+    }
+
+    public ResponseInputStream<GetObjectResponse> openFile(PhotoFile file, long start, long end) {
+        if (start == 0 && end == file.contentLength() - 1) {
+            return s3Service.getFileStream(file.key());
+        }
+        return s3Service.getFileStream(file.key(), start, end);
+    }
+
+    /**
+     * 다운로드 기록 (응답 전송과 별도로 비동기 처리)
+     */
+    @Async("downloadRecordExecutor")
+    @Transactional
+    public void recordDownloadAsync(Long photoId, Long currentUserId, String ipAddress) {
+        try {
+            recordDownload(photoId, currentUserId, ipAddress);
+        } catch (Exception e) {
+            log.warn("Failed to record download for photo {}: {}", photoId, e.getMessage());
+        }
+    }
+
+    @Transactional
+    public void recordDownload(Long photoId, Long currentUserId, String ipAddress) {
+        // 다운로드 수 증가 (갱신된 행이 없으면 존재하지 않는 사진)
+        if (photoRepository.incrementDownloadsCount(photoId) == 0) {
+            throw new ResourceNotFoundException("사진을 찾을 수 없습니다");
+        }
+
+        User user = currentUserId != null
+                ? userRepository.getReferenceById(currentUserId)
                 : null;
 
         Download download = Download.builder()
-                .photo(photo)
+                .photo(photoRepository.getReferenceById(photoId))
                 .user(user)
                 .ipAddress(ipAddress)
                 .build();
 
         downloadRepository.save(download);
 
-        // 다운로드 수 증가
-        photo.setDownloadsCount(photo.getDownloadsCount() + 1);
-        photoRepository.save(photo);
+        log.info("Download recorded for photo {} by {}", photoId, currentUserId != null ? currentUserId : ipAddress);
+    }
 
-        log.info("Download recorded for photo {} by {}", photoId, username != null ? username : ipAddress);
+    /**
+     * S3에 저장된 원본 파일 메타데이터
+     */
+    public record PhotoFile(String key, long contentLength, String contentType, String eTag, Instant lastModified) {
     }
 }
@@ -3,7 +3,6 @@ package moe.solo.cloneUnsplash.service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import moe.solo.cloneUnsplash.entity.Follow;
-import moe.solo.cloneUnsplash.entity.User;
 import moe.solo.cloneUnsplash.exception.BadRequestException;
 import moe.solo.cloneUnsplash.exception.ResourceNotFoundException;
 import moe.solo.cloneUnsplash.repository.FollowRepository;
@@ -20,58 +19,50 @@ public class FollowService {
     private final UserRepository userRepository;
 
     @Transactional
-    public void followUser(Long targetUserId, String currentUsername) {
-        User follower = userRepository.findByUsername(currentUsername)
-                .orElseThrow(() -> new ResourceNotFoundException("사용자를 찾을 수 없습니다"));
-
-        User following = userRepository.findById(targetUserId)
-                .orElseThrow(() -> new ResourceNotFoundException("팔로우할 사용자를 찾을 수 없습니다"));
-
-        if (follower.getId().equals(following.getId())) {
+    public void followUser(Long targetUserId, Long currentUserId) {
+        if (currentUserId.equals(targetUserId)) {
             throw new BadRequestException("자기 자신을 팔로우할 수 없습니다");
         }
 
-        if (followRepository.existsByFollowerAndFollowing(follower, following)) {
+        if (!userRepository.existsById(targetUserId)) {
+            throw new ResourceNotFoundException("팔로우할 사용자를 찾을 수 없습니다");
+        }
+
+        if (followRepository.existsByFollowerIdAndFollowingId(currentUserId, targetUserId)) {
             throw new BadRequestException("이미 팔로우 중입니다");
         }
 
         Follow follow = Follow.builder()
-                .follower(follower)
-                .following(following)
+                .follower(userRepository.getReferenceById(currentUserId))
+                .following(userRepository.getReferenceById(targetUserId))
                 .build();
 
         followRepository.save(follow);
-        log.info("User {} followed user {}", currentUsername, targetUserId);
+        userRepository.adjustFollowingCount(currentUserId, 1);
+        userRepository.adjustFollowersCount(targetUserId, 1);
+        log.info("User {} followed user {}", currentUserId, targetUserId);
     }
 
     @Transactional
-    public void unfollowUser(Long targetUserId, String currentUsername) {
-        User follower = userRepository.findByUsername(currentUsername)
-                .orElseThrow(() -> new ResourceNotFoundException("사용자를 찾을 수 없습니다"));
-
-        User following = userRepository.findById(targetUserId)
-                .orElseThrow(() -> new ResourceNotFoundException("언팔로우할 사용자를 찾을 수 없습니다"));
-
-        if (!followRepository.existsByFollowerAndFollowing(follower, following)) {
+    public void unfollowUser(Long targetUserId, Long currentUserId) {
+        int deleted = followRepository.deleteByFollowerIdAndFollowingId(currentUserId, targetUserId);
+        if (deleted == 0) {
+            if (!userRepository.existsById(targetUserId)) {
+                throw new ResourceNotFoundException("언팔로우할 사용자를 찾을 수 없습니다");
+            }
             throw new BadRequestException("팔로우 중이 아닙니다");
         }
 
-        followRepository.deleteByFollowerAndFollowing(follower, following);
-        log.info("User {} unfollowed user {}", currentUsername, targetUserId);
+        userRepository.adjustFollowingCount(currentUserId, -1);
+        userRepository.adjustFollowersCount(targetUserId, -1);
+        log.info("User {} unfollowed user {}", currentUserId, targetUserId);
     }
 
-    public boolean isFollowing(Long targetUserId, String currentUsername) {
-        if (currentUsername == null) {
-            return false;
-        }
-
-        User follower = userRepository.findByUsername(currentUsername).orElse(null);
-        User following = userRepository.findById(targetUserId).orElse(null);
-
-        if (follower == null || following == null) {
+    public boolean isFollowing(Long targetUserId, Long currentUserId) {
+        if (currentUserId == null) {
             return false;
         }
 
-        return followRepository.existsByFollowerAndFollowing(follower, following);
+        return followRepository.existsByFollowerIdAndFollowingId(currentUserId, targetUserId);
     }
 }
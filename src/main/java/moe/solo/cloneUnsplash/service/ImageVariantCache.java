@@ -0,0 +1,164 @@
+package moe.solo.cloneUnsplash.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * 리사이즈 이미지 로컬 디스크 캐시 (LRU, 전체 크기 제한)
+ * 파일을 연 뒤에 삭제되어도 열린 스트림은 계속 읽을 수 있으므로, 조회 시 잠금 안에서 스트림을 연다
+ */
+@Component
+@Slf4j
+public class ImageVariantCache {
+
+    private static final String FILE_SUFFIX = ".jpg";
+
+    private final Path directory;
+    private final long maxBytes;
+
+    /*
+    접근 순서로 정렬된 캐시 파일 크기 (가장 오래 사용하지 않은 항목이 앞)
+    */
+    private final LinkedHashMap<String, Long> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalBytes;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public ImageVariantCache(@Value("${photo.image.cache-dir:${java.io.tmpdir}/clone-unsplash-image-cache}") String directory,
+            @Value("${photo.image.cache-max-bytes:1073741824}") long maxBytes,
+            MeterRegistry meterRegistry) throws IOException {
+        this.directory = Paths.get(directory);
+        this.maxBytes = maxBytes;
+        Files.createDirectories(this.directory);
+        loadExisting();
+
+        this.hitCounter = Counter.builder("photo.image.cache.hits")
+                .description("리사이즈 이미지 캐시 적중 수")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("photo.image.cache.misses")
+                .description("리사이즈 이미지 캐시 미스 수")
+                .register(meterRegistry);
+        Gauge.builder("photo.image.cache.bytes", this, cache -> cache.currentBytes())
+                .description("리사이즈 이미지 캐시 크기")
+                .register(meterRegistry);
+    }
+
+    public synchronized Optional<CachedImage> open(String key) {
+        Long size = entries.get(key);
+        if (size == null) {
+            missCounter.increment();
+            return Optional.empty();
+        }
+
+        try {
+            InputStream input = Files.newInputStream(path(key));
+            hitCounter.increment();
+            return Optional.of(new CachedImage(input, size));
+        } catch (IOException e) {
+            // 외부에서 삭제된 파일은 캐시에서도 제거
+            entries.remove(key);
+            totalBytes -= size;
+            missCounter.increment();
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 캐시에 저장 (임시 파일에 쓴 뒤 이동하여 읽는 쪽에서 쓰다 만 파일을 보지 않도록 함)
+     */
+    public void put(String key, byte[] bytes) {
+        Path target = path(key);
+        try {
+            Path temp = Files.createTempFile(directory, key, ".tmp");
+            Files.write(temp, bytes);
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write image cache file", e);
+        }
+
+        synchronized (this) {
+            Long previous = entries.put(key, (long) bytes.length);
+            totalBytes += bytes.length - (previous != null ? previous : 0);
+            evict();
+        }
+    }
+
+    private synchronized long currentBytes() {
+        return totalBytes;
+    }
+
+    private void evict() {
+        Iterator<Map.Entry<String, Long>> iterator = entries.entrySet().iterator();
+        while (totalBytes > maxBytes && iterator.hasNext()) {
+            Map.Entry<String, Long> eldest = iterator.next();
+            iterator.remove();
+            totalBytes -= eldest.getValue();
+            try {
+                Files.deleteIfExists(path(eldest.getKey()));
+            } catch (IOException e) {
+                log.warn("Failed to delete image cache file {}: {}", eldest.getKey(), e.getMessage());
+            }
+        }
+    }
+
+    /*
+    재시작 시 기존 캐시 파일을 마지막 수정 시각 순으로 다시 등록
+    */
+    private void loadExisting() throws IOException {
+        // 쓰다 중단된 임시 파일 정리
+        try (Stream<Path> files = Files.list(directory)) {
+            files.filter(file -> file.getFileName().toString().endsWith(".tmp"))
+                    .forEach(file -> file.toFile().delete());
+        }
+
+        try (Stream<Path> files = Files.list(directory)) {
+            files.filter(file -> file.getFileName().toString().endsWith(FILE_SUFFIX))
+                    .map(file -> {
+                        try {
+                            return Map.entry(file, Files.readAttributes(file, BasicFileAttributes.class));
+                        } catch (IOException e) {
+                            return null;
+                        }
+                    })
+                    .filter(entry -> entry != null)
+                    .sorted(Comparator.comparing(entry -> entry.getValue().lastModifiedTime()))
+                    .forEach(entry -> {
+                        String name = entry.getKey().getFileName().toString();
+                        entries.put(name.substring(0, name.length() - FILE_SUFFIX.length()), entry.getValue().size());
+                        totalBytes += entry.getValue().size();
+                    });
+        }
+        evict();
+        log.info("Image cache loaded: {} files, {} bytes", entries.size(), totalBytes);
+    }
+
+    private Path path(String key) {
+        return directory.resolve(key + FILE_SUFFIX);
+    }
+
+    /**
+     * 캐시된 이미지 스트림과 크기
+     */
+    public record CachedImage(InputStream input, long size) {
+    }
+}
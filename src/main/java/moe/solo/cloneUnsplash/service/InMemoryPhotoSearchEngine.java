@@ -0,0 +1,147 @@
+package moe.solo.cloneUnsplash.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import moe.solo.cloneUnsplash.entity.Photo;
+import moe.solo.cloneUnsplash.entity.Tag;
+import moe.solo.cloneUnsplash.repository.PhotoRepository;
+import moe.solo.cloneUnsplash.search.InvertedIndex;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * 메모리 역색인 검색 (photo.search.backend=memory)
+ * 시작 시 사진 테이블을 스트리밍하여 색인을 만들고, 이후 등록/수정/삭제는 커밋 후 색인에 바로 반영한다
+ * 결과는 최신 사진(ID 내림차순)부터 반환하며, 색인이 준비되기 전에는 DB LIKE 검색을 사용한다
+ */
+@Component
+@ConditionalOnProperty(name = "photo.search.backend", havingValue = "memory")
+@Slf4j
+public class InMemoryPhotoSearchEngine implements PhotoSearchEngine {
+
+    private final PhotoRepository photoRepository;
+    private final InvertedIndex index = new InvertedIndex();
+
+    /*
+    초기 색인 중 변경된 사진 (스트리밍 중인 이전 값으로 덮어쓰지 않도록 건너뜀)
+    */
+    private final Set<Long> changedDuringBuild = ConcurrentHashMap.newKeySet();
+
+    private volatile boolean building;
+    private volatile boolean ready;
+
+    public InMemoryPhotoSearchEngine(PhotoRepository photoRepository, MeterRegistry meterRegistry) {
+        this.photoRepository = photoRepository;
+        Gauge.builder("photo.search.index.documents", index, InvertedIndex::size)
+                .description("메모리 검색 색인에 등록된 사진 수")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void build() {
+        building = true;
+        long started = System.currentTimeMillis();
+
+        // (id, 제목, 설명, 태그) 행을 ID 순으로 받아 사진 단위로 묶어 색인
+        long currentId = -1;
+        List<String> texts = new ArrayList<>();
+        try (Stream<Object[]> rows = photoRepository.streamSearchDocuments()) {
+            for (Object[] row : (Iterable<Object[]>) rows::iterator) {
+                long photoId = (Long) row[0];
+                if (photoId != currentId) {
+                    indexBuilt(currentId, texts);
+                    currentId = photoId;
+                    texts = new ArrayList<>();
+                    texts.add((String) row[1]);
+                    texts.add((String) row[2]);
+                }
+                if (row[3] != null) {
+                    texts.add((String) row[3]);
+                }
+            }
+        }
+        indexBuilt(currentId, texts);
+
+        ready = true;
+        building = false;
+        changedDuringBuild.clear();
+        log.info("In-memory search index built: {} photos in {} ms",
+                index.size(), System.currentTimeMillis() - started);
+    }
+
+    private void indexBuilt(long photoId, List<String> texts) {
+        if (photoId >= 0 && !changedDuringBuild.contains(photoId)) {
+            index.put(photoId, texts);
+        }
+    }
+
+    @Override
+    public Page<Long> search(String keyword, Pageable pageable) {
+        if (!ready || InvertedIndex.tokenize(keyword).isEmpty()) {
+            return photoRepository.searchPageIdsByKeyword(keyword, pageable);
+        }
+
+        long[] matches = index.search(keyword);
+        List<Long> content = InvertedIndex.newestFirst(matches, pageable.getOffset(), pageable.getPageSize());
+        return new PageImpl<>(content, pageable, matches.length);
+    }
+
+    @Override
+    public void index(Photo photo) {
+        long photoId = photo.getId();
+        List<String> texts = new ArrayList<>();
+        texts.add(photo.getTitle());
+        texts.add(photo.getDescription());
+        photo.getTags().stream()
+                .map(Tag::getName)
+                .filter(Objects::nonNull)
+                .forEach(texts::add);
+
+        afterCommit(photoId, () -> index.put(photoId, texts));
+    }
+
+    @Override
+    public void remove(Long photoId) {
+        afterCommit(photoId, () -> index.remove(photoId));
+    }
+
+    /*
+    롤백된 변경이 색인에 남지 않도록 커밋 후 반영
+    */
+    private void afterCommit(long photoId, Runnable action) {
+        Runnable apply = () -> {
+            if (building) {
+                changedDuringBuild.add(photoId);
+            }
+            action.run();
+        };
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply.run();
+            }
+        });
+    }
+}
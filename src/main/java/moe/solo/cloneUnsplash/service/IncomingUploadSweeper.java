@@ -0,0 +1,45 @@
+package moe.solo.cloneUnsplash.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.services.s3.model.S3Object;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * 등록(finalize)되지 않은 직접 업로드 파일 정리
+ * 등록된 업로드는 커밋 후 바로 삭제되므로, 보관 시간이 지난 업로드 키는 모두 버려진 파일이다
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class IncomingUploadSweeper {
+
+    private final S3Service s3Service;
+
+    @Value("${photo.upload.incoming-max-age-ms:86400000}")
+    private long maxAgeMillis;
+
+    @Scheduled(fixedDelayString = "${photo.upload.incoming-sweep-interval-ms:3600000}")
+    public void sweep() {
+        Instant cutoff = Instant.now().minus(Duration.ofMillis(maxAgeMillis));
+        int deleted = 0;
+        try {
+            for (S3Object object : s3Service.listFiles(PhotoService.INCOMING_FOLDER)) {
+                if (object.lastModified().isBefore(cutoff)) {
+                    s3Service.deleteFile(object.key());
+                    deleted++;
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to sweep incoming uploads: {}", e.getMessage());
+        }
+        if (deleted > 0) {
+            log.info("Deleted {} abandoned incoming uploads", deleted);
+        }
+    }
+}
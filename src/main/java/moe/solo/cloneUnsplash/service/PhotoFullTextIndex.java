@@ -0,0 +1,80 @@
+package moe.solo.cloneUnsplash.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import moe.solo.cloneUnsplash.repository.PhotoRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * PostgreSQL 전문 검색 인덱스 (photos.search_vector)
+ * 제목(A), 설명(B), 태그(C) 가중치를 준 tsvector 컬럼과 GIN 인덱스를 시작 시 준비하고,
+ * 사진 등록/수정 시 해당 행의 벡터를 갱신한다. PostgreSQL이 아니면 LIKE 검색을 사용한다
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PhotoFullTextIndex {
+
+    private static final int BACKFILL_BATCH_SIZE = 5000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PhotoRepository photoRepository;
+
+    /*
+    maintained: 등록/수정 시 벡터 갱신 (컬럼 생성 직후부터)
+    enabled: 전문 검색 쿼리 사용 (기존 행 채우기가 끝난 뒤부터)
+    */
+    private volatile boolean maintained;
+    private volatile boolean enabled;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        String database = jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+        if (!"PostgreSQL".equals(database)) {
+            log.info("Full-text search disabled for database: {}", database);
+            return;
+        }
+
+        // 엔티티에 매핑하지 않는 컬럼이므로 ddl-auto 대신 직접 생성
+        jdbcTemplate.execute("ALTER TABLE photos ADD COLUMN IF NOT EXISTS search_vector tsvector");
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_photos_search_vector ON photos USING GIN (search_vector)");
+
+        // 채우는 동안 등록된 사진도 벡터를 갖도록 먼저 갱신을 시작 (갱신은 멱등이라 중복되어도 무방)
+        maintained = true;
+        int backfilled = backfill();
+        enabled = true;
+        log.info("Full-text search enabled ({} photos indexed at startup)", backfilled);
+    }
+
+    /*
+    기존 행을 ID 범위별로 나누어 채움 (한 트랜잭션으로 전체 테이블을 잠그거나 WAL을 한 번에 쏟아내지 않도록)
+    채우기가 시작된 뒤 등록된 사진은 refresh로 벡터를 가지므로 시작 시점의 최대 ID까지만 처리
+    */
+    private int backfill() {
+        Long maxId = photoRepository.findMaxId();
+        if (maxId == null) {
+            return 0;
+        }
+
+        int backfilled = 0;
+        for (long fromId = 0; fromId <= maxId; fromId += BACKFILL_BATCH_SIZE) {
+            backfilled += photoRepository.refreshMissingSearchVectors(fromId, fromId + BACKFILL_BATCH_SIZE);
+        }
+        return backfilled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void refresh(Long photoId) {
+        if (maintained) {
+            photoRepository.refreshSearchVector(photoId);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package moe.solo.cloneUnsplash.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import moe.solo.cloneUnsplash.repository.PhotoBlobRepository;
+import moe.solo.cloneUnsplash.repository.PhotoRepository;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 참조가 없어진 사진 원본과 리사이즈 이미지 삭제
+ * 파일 키가 내용 해시이므로 같은 파일이 다시 업로드되는 중일 수 있다.
+ * photo_blobs 행을 삭제(행 잠금)한 상태에서 S3 삭제까지 마친 뒤 커밋하여,
+ * 동시에 같은 해시를 등록하려는 업로드가 삭제가 끝난 뒤에 새로 업로드하도록 한다
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PhotoImageCleaner {
+
+    private final PhotoBlobRepository photoBlobRepository;
+    private final PhotoRepository photoRepository;
+    private final S3Service s3Service;
+
+    @Async("storageCleanupExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onImageReleased(PhotoImageReleasedEvent event) {
+        String key = event.imageKey();
+
+        // 그 사이 다시 참조되었으면 삭제하지 않음 (참조 카운트가 없는 기존 파일은 사진 테이블로 확인)
+        if (photoBlobRepository.deleteUnreferenced(key) == 0 && photoBlobRepository.existsByObjectKey(key)) {
+            log.info("Image {} was referenced again, skipping delete", key);
+            return;
+        }
+        if (photoRepository.existsByImageUrl(key)) {
+            log.info("Image {} is still used by a photo, skipping delete", key);
+            return;
+        }
+
+        // 실패하면 롤백되어 참조 카운트 0인 행이 남음 (다음 업로드가 재사용 가능)
+        for (int width : PhotoRenditionService.parseWidths(event.renditionWidths())) {
+            s3Service.deleteFile(PhotoRenditionService.renditionKey(key, width));
+        }
+        s3Service.deleteFile(key);
+    }
+}
@@ -0,0 +1,7 @@
+package moe.solo.cloneUnsplash.service;
+
+/**
+ * 사진 원본 파일의 마지막 참조 해제 이벤트 (트랜잭션 커밋 후 S3 정리)
+ */
+public record PhotoImageReleasedEvent(String imageKey, String renditionWidths) {
+}
@@ -0,0 +1,238 @@
+package moe.solo.cloneUnsplash.service;
+
+import lombok.extern.slf4j.Slf4j;
+import moe.solo.cloneUnsplash.entity.Photo;
+import moe.solo.cloneUnsplash.exception.BadRequestException;
+import moe.solo.cloneUnsplash.exception.ResourceNotFoundException;
+import moe.solo.cloneUnsplash.exception.TooManyRequestsException;
+import moe.solo.cloneUnsplash.image.ImageResizer;
+import moe.solo.cloneUnsplash.repository.PhotoRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 크기에 맞춘 이미지 변환 (w, h, q, fit)
+ * 결과는 디스크 캐시에 저장하고, 같은 변환을 동시에 요청하면 한 번만 변환한다
+ */
+@Service
+@Slf4j
+public class PhotoImageService {
+
+    private static final int DEFAULT_WIDTH = 1080;
+    private static final int DEFAULT_QUALITY = 80;
+
+    private final PhotoRepository photoRepository;
+    private final S3Service s3Service;
+    private final ImageVariantCache cache;
+    private final UploadAdmission uploadAdmission;
+
+    /*
+    진행 중인 변환 (같은 캐시 키의 후속 요청은 이 결과를 기다린다)
+    */
+    private final Map<String, CompletableFuture<byte[]>> inFlight = new ConcurrentHashMap<>();
+
+    /*
+    동시에 실행할 수 있는 변환 수 (CPU 사용량 제한)
+    */
+    private final Semaphore resizePermits;
+    private final long maxWaitMillis;
+    private final int maxDimension;
+
+    public PhotoImageService(PhotoRepository photoRepository, S3Service s3Service, ImageVariantCache cache,
+            UploadAdmission uploadAdmission,
+            @Value("${photo.image.max-concurrency:2}") int maxConcurrency,
+            @Value("${photo.image.max-wait-ms:5000}") long maxWaitMillis,
+            @Value("${photo.image.max-dimension:4096}") int maxDimension) {
+        this.photoRepository = photoRepository;
+        this.s3Service = s3Service;
+        this.cache = cache;
+        this.uploadAdmission = uploadAdmission;
+        this.resizePermits = new Semaphore(maxConcurrency, true);
+        this.maxWaitMillis = maxWaitMillis;
+        this.maxDimension = maxDimension;
+    }
+
+    /**
+     * 요청 파라미터를 결과 크기로 변환 (캐시 키는 ETag로도 사용)
+     */
+    public ImageRequest resolve(Long photoId, Integer width, Integer height, Integer quality, String fit) {
+        Photo photo = photoRepository.findById(photoId)
+                .orElseThrow(() -> new ResourceNotFoundException("사진을 찾을 수 없습니다"));
+
+        Variant variant = resolveVariant(photo, width, height, quality, fit);
+        return new ImageRequest(photo, variant, cacheKey(photo.getImageUrl(), variant));
+    }
+
+    /**
+     * 캐시에 있으면 캐시 파일을, 없으면 변환 후 결과를 반환
+     */
+    public VariantImage open(ImageRequest request) {
+        return cache.open(request.cacheKey())
+                .map(cached -> new VariantImage(cached.input(), cached.size()))
+                .orElseGet(() -> {
+                    byte[] bytes = renderOnce(request.cacheKey(), request.photo(), request.variant());
+                    return new VariantImage(new ByteArrayInputStream(bytes), bytes.length);
+                });
+    }
+
+    /*
+    같은 키의 변환이 진행 중이면 그 결과를 기다리고, 아니면 직접 변환
+    */
+    private byte[] renderOnce(String cacheKey, Photo photo, Variant variant) {
+        CompletableFuture<byte[]> future = new CompletableFuture<>();
+        CompletableFuture<byte[]> existing = inFlight.putIfAbsent(cacheKey, future);
+        if (existing != null) {
+            try {
+                return existing.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException cause ? cause : e;
+            }
+        }
+
+        try {
+            byte[] bytes = render(photo, variant);
+            cache.put(cacheKey, bytes);
+            future.complete(bytes);
+            return bytes;
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(cacheKey, future);
+        }
+    }
+
+    private byte[] render(Photo photo, Variant variant) {
+        Source source = source(photo, variant);
+        // 결과 크기 이상이 유지되는 범위에서 서브샘플링하여 디코딩하므로 디코딩 크기만큼만 메모리 예산 예약
+        int factor = ImageResizer.subsamplingFactor(source.width(), source.height(),
+                variant.resizeWidth(), variant.resizeHeight());
+
+        acquirePermit();
+        try (UploadAdmission.Permit permit = uploadAdmission.admit(
+                        Math.ceilDiv(source.width(), factor), Math.ceilDiv(source.height(), factor));
+                InputStream input = s3Service.getFileStream(source.key())) {
+            ImageResizer.DecodedImage decoded = ImageResizer.readSubsampled(
+                    input, variant.resizeWidth(), variant.resizeHeight());
+
+            BufferedImage image = ImageResizer.resize(decoded.image(), variant.resizeWidth(), variant.resizeHeight());
+            if (variant.crop()) {
+                image = ImageResizer.cropCenter(image, variant.width(), variant.height());
+            }
+            return ImageResizer.encodeJpeg(image, variant.quality() / 100f);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not resize image", e);
+        } finally {
+            resizePermits.release();
+        }
+    }
+
+    private void acquirePermit() {
+        try {
+            if (!resizePermits.tryAcquire(maxWaitMillis, TimeUnit.MILLISECONDS)) {
+                throw new TooManyRequestsException("이미지 변환 요청이 많습니다. 잠시 후 다시 시도해주세요",
+                        Math.max(1, maxWaitMillis / 1000));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TooManyRequestsException("이미지 변환이 중단되었습니다", 1);
+        }
+    }
+
+    /*
+    변환에 충분한 가장 작은 리사이즈 이미지가 있으면 원본 대신 사용
+    */
+    private Source source(Photo photo, Variant variant) {
+        List<Integer> widths = PhotoRenditionService.parseWidths(photo.getRenditionWidths());
+        return widths.stream()
+                .filter(width -> width >= variant.resizeWidth())
+                .min(Integer::compare)
+                .map(width -> new Source(PhotoRenditionService.renditionKey(photo.getImageUrl(), width), width,
+                        Math.max(1, (int) Math.round((double) photo.getHeight() * width / photo.getWidth()))))
+                .orElse(new Source(photo.getImageUrl(), photo.getWidth(), photo.getHeight()));
+    }
+
+    /*
+    변환에 사용할 파일과 그 크기
+    */
+    private record Source(String key, int width, int height) {
+    }
+
+    /*
+    요청 크기를 원본 비율에 맞춰 계산 (확대하지 않음)
+    fit=clip: 요청 크기 안에 맞춤, fit=crop: 요청 크기를 채운 뒤 가운데를 잘라냄
+    */
+    private Variant resolveVariant(Photo photo, Integer width, Integer height, Integer quality, String fit) {
+        if ((width != null && width <= 0) || (height != null && height <= 0)
+                || (quality != null && (quality < 1 || quality > 100))) {
+            throw new BadRequestException("유효하지 않은 이미지 크기 또는 품질입니다");
+        }
+        boolean crop = "crop".equals(fit);
+        if (fit != null && !crop && !"clip".equals(fit)) {
+            throw new BadRequestException("fit은 clip 또는 crop만 지원합니다");
+        }
+
+        int originalWidth = photo.getWidth();
+        int originalHeight = photo.getHeight();
+        int requestedWidth = Math.min(width != null ? width : (height == null ? DEFAULT_WIDTH : Integer.MAX_VALUE),
+                maxDimension);
+        int requestedHeight = Math.min(height != null ? height : Integer.MAX_VALUE, maxDimension);
+
+        double scaleX = (double) requestedWidth / originalWidth;
+        double scaleY = (double) requestedHeight / originalHeight;
+        crop = crop && width != null && height != null;
+        double scale = Math.min(1.0, crop ? Math.max(scaleX, scaleY) : Math.min(scaleX, scaleY));
+
+        int resizeWidth = Math.max(1, (int) Math.round(originalWidth * scale));
+        int resizeHeight = Math.max(1, (int) Math.round(originalHeight * scale));
+        int outputWidth = crop ? Math.min(requestedWidth, resizeWidth) : resizeWidth;
+        int outputHeight = crop ? Math.min(requestedHeight, resizeHeight) : resizeHeight;
+
+        return new Variant(outputWidth, outputHeight, resizeWidth, resizeHeight,
+                quality != null ? quality : DEFAULT_QUALITY, crop);
+    }
+
+    private static String cacheKey(String imageKey, Variant variant) {
+        String source = imageKey + "|" + variant.width() + "x" + variant.height()
+                + "|" + variant.resizeWidth() + "x" + variant.resizeHeight()
+                + "|q" + variant.quality() + "|" + (variant.crop() ? "crop" : "clip");
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(source.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * 결과 크기 (crop이면 resize 크기로 축소한 뒤 width x height로 잘라냄)
+     */
+    public record Variant(int width, int height, int resizeWidth, int resizeHeight, int quality, boolean crop) {
+    }
+
+    public record ImageRequest(Photo photo, Variant variant, String cacheKey) {
+    }
+
+    /**
+     * 변환된 이미지 스트림과 크기
+     */
+    public record VariantImage(InputStream input, long size) {
+    }
+}
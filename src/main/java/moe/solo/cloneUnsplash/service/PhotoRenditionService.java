@@ -0,0 +1,199 @@
+package moe.solo.cloneUnsplash.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import moe.solo.cloneUnsplash.image.ImagePlaceholders;
+import moe.solo.cloneUnsplash.image.ImageResizer;
+import moe.solo.cloneUnsplash.repository.PhotoRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.awt.image.BufferedImage;
+import java.io.InputStream;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 업로드 후처리 - 너비별 리사이즈 이미지와 플레이스홀더 (대표 색상, BlurHash) 생성
+ * 요청 스레드가 아닌 renditionExecutor에서 원본을 S3에서 읽어 처리하며,
+ * 디코딩 전에 UploadAdmission 메모리 예산을 예약한다.
+ * 대기열이 가득 차 건너뛰었거나 실패한 사진은 주기적으로 다시 처리한다 (최대 재시도 횟수까지)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PhotoRenditionService {
+
+    /*
+    생성할 리사이즈 이미지 너비 (원본보다 작은 것만 생성)
+    */
+    public static final int[] RENDITION_WIDTHS = { 200, 400, 1080, 2048 };
+
+    private static final int THUMBNAIL_WIDTH = 400;
+    private static final float JPEG_QUALITY = 0.85f;
+
+    /*
+    업로드 직후 처리 중인 사진은 재처리하지 않도록 이 시간이 지난 사진만 대상
+    */
+    private static final Duration RETRY_MIN_AGE = Duration.ofMinutes(10);
+    private static final int RETRY_BATCH_SIZE = 50;
+
+    /*
+    디코딩할 수 없는 이미지 (CMYK, HEIC, 손상된 파일 등)는 이 횟수만큼 재시도한 뒤 포기
+    */
+    private static final int MAX_RETRY_ATTEMPTS = 3;
+
+    /*
+    재처리 대상 선택은 여러 서버 중 한 곳에서만 (PostgreSQL advisory lock 키)
+    */
+    private static final long RETRY_LOCK_KEY = 0x52454E44L;
+
+    /*
+    대기열이 가득 차 버려진 재처리 작업은 이 시간이 지나면 다시 넣을 수 있다
+    */
+    private static final Duration QUEUED_EXPIRY = Duration.ofHours(1);
+
+    private final S3Service s3Service;
+    private final PhotoRepository photoRepository;
+    private final UploadAdmission uploadAdmission;
+    private final ThreadPoolTaskExecutor renditionExecutor;
+
+    /*
+    이 서버의 대기열에 넣은 재처리 작업 (원본 키 -> 넣은 시각)
+    */
+    private final Map<String, Long> queued = new ConcurrentHashMap<>();
+
+    @Async("renditionExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPhotoUploaded(PhotoUploadedEvent event) {
+        generateRenditions(event.photoId(), event.imageKey(), event.width(), event.height());
+    }
+
+    /**
+     * 플레이스홀더가 없는 사진 재처리 (같은 파일을 공유하는 사진은 한 번만)
+     * 선택한 파일은 재시도 횟수와 시각을 기록하여 다른 서버나 다음 주기에 다시 선택하지 않고,
+     * 작업은 커밋 후 대기열에 넣는다
+     */
+    @Scheduled(fixedDelayString = "${photo.rendition.retry-interval-ms:600000}")
+    @Transactional
+    public void retryMissing() {
+        if (!photoRepository.tryAdvisoryXactLock(RETRY_LOCK_KEY)) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        queued.values().removeIf(submittedAt -> now - submittedAt > QUEUED_EXPIRY.toMillis());
+
+        LocalDateTime before = LocalDateTime.now().minus(RETRY_MIN_AGE);
+        List<Object[]> pending = photoRepository.findImagesWithoutPlaceholder(before, MAX_RETRY_ATTEMPTS,
+                PageRequest.of(0, RETRY_BATCH_SIZE));
+        List<Object[]> resubmit = pending.stream()
+                .filter(row -> !queued.containsKey((String) row[1]))
+                .collect(Collectors.toList());
+        if (resubmit.isEmpty()) {
+            return;
+        }
+
+        photoRepository.markRenditionAttempted(
+                resubmit.stream().map(row -> (String) row[1]).collect(Collectors.toList()), LocalDateTime.now());
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                resubmit.forEach(row -> submit((Long) row[0], (String) row[1], (Integer) row[2], (Integer) row[3]));
+                log.info("Resubmitted post-processing for {} images", resubmit.size());
+            }
+        });
+    }
+
+    private void submit(Long photoId, String imageKey, int width, int height) {
+        if (queued.putIfAbsent(imageKey, System.currentTimeMillis()) != null) {
+            return;
+        }
+        renditionExecutor.execute(() -> {
+            try {
+                generateRenditions(photoId, imageKey, width, height);
+            } finally {
+                queued.remove(imageKey);
+            }
+        });
+    }
+
+    public void generateRenditions(Long photoId, String imageKey, int width, int height) {
+        // 가장 큰 리사이즈 너비 이상이 되도록 서브샘플링하여 디코딩하므로 디코딩 크기만큼만 메모리 예산 예약
+        int largestWidth = RENDITION_WIDTHS[RENDITION_WIDTHS.length - 1];
+        int factor = ImageResizer.subsamplingFactor(width, height, largestWidth, 1);
+        try (UploadAdmission.Permit permit = uploadAdmission.acquire(
+                        Math.ceilDiv(width, factor), Math.ceilDiv(height, factor));
+                InputStream input = s3Service.getFileStream(imageKey)) {
+            ImageResizer.DecodedImage decoded = ImageResizer.readSubsampled(input, largestWidth, 1);
+
+            // 같은 디코딩 결과로 플레이스홀더 추출
+            ImagePlaceholders.Placeholder placeholder = ImagePlaceholders.extract(decoded.image());
+            photoRepository.updatePlaceholder(imageKey, placeholder.color(), placeholder.blurHash());
+
+            List<Integer> widths = new ArrayList<>();
+            for (int renditionWidth : RENDITION_WIDTHS) {
+                if (renditionWidth < decoded.originalWidth()) {
+                    widths.add(renditionWidth);
+                }
+            }
+
+            // 큰 너비부터 생성하고, 직전 결과를 다시 축소하여 다음 너비를 만든다
+            BufferedImage current = decoded.image();
+            for (int i = widths.size() - 1; i >= 0; i--) {
+                int renditionWidth = widths.get(i);
+                current = ImageResizer.resizeToWidth(current, renditionWidth);
+                byte[] jpeg = ImageResizer.encodeJpeg(current, JPEG_QUALITY);
+                s3Service.uploadBytes(renditionKey(imageKey, renditionWidth), jpeg, "image/jpeg");
+            }
+
+            String thumbnailKey = widths.contains(THUMBNAIL_WIDTH) ? renditionKey(imageKey, THUMBNAIL_WIDTH) : null;
+            photoRepository.updateRenditions(imageKey, formatWidths(widths), thumbnailKey);
+            log.info("Renditions generated for photo {}: {}", photoId, widths);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Rendition generation interrupted for photo {}", photoId);
+        } catch (Exception e) {
+            log.error("Failed to generate renditions for photo {}", photoId, e);
+        }
+    }
+
+    /**
+     * 리사이즈 이미지 키 (예: photos/abc.jpg -> renditions/photos/abc/w400.jpg)
+     */
+    public static String renditionKey(String imageKey, int width) {
+        int extension = imageKey.lastIndexOf('.');
+        String base = extension > imageKey.lastIndexOf('/') ? imageKey.substring(0, extension) : imageKey;
+        return "renditions/" + base + "/w" + width + ".jpg";
+    }
+
+    public static List<Integer> parseWidths(String renditionWidths) {
+        if (renditionWidths == null || renditionWidths.isBlank()) {
+            return Collections.emptyList();
+        }
+        return Arrays.stream(renditionWidths.split(","))
+                .map(Integer::valueOf)
+                .collect(Collectors.toList());
+    }
+
+    private static String formatWidths(List<Integer> widths) {
+        return widths.stream()
+                .map(String::valueOf)
+                .collect(Collectors.joining(","));
+    }
+}
@@ -0,0 +1,25 @@
+package moe.solo.cloneUnsplash.service;
+
+import moe.solo.cloneUnsplash.entity.Photo;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * 사진 키워드 검색 백엔드 (photo.search.backend 설정으로 선택)
+ * database - DB 전문 검색 또는 LIKE 검색 (기본값)
+ * memory - 애플리케이션 메모리의 역색인
+ */
+public interface PhotoSearchEngine {
+
+    /**
+     * 키워드와 일치하는 사진 ID 페이지
+     */
+    Page<Long> search(String keyword, Pageable pageable);
+
+    /**
+     * 사진 등록/수정 반영 (제목, 설명, 태그가 로딩된 사진)
+     */
+    void index(Photo photo);
+
+    void remove(Long photoId);
+}
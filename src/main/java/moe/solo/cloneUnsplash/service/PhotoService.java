@@ -2,29 +2,60 @@ package moe.solo.cloneUnsplash.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import moe.solo.cloneUnsplash.dto.common.CursorResponse;
 import moe.solo.cloneUnsplash.dto.common.PageResponse;
+import moe.solo.cloneUnsplash.dto.photo.PhotoCursor;
+import moe.solo.cloneUnsplash.dto.photo.PhotoFinalizeRequest;
 import moe.solo.cloneUnsplash.dto.photo.PhotoResponse;
 import moe.solo.cloneUnsplash.dto.photo.PhotoUpdateRequest;
 import moe.solo.cloneUnsplash.dto.photo.PhotoUploadRequest;
+import moe.solo.cloneUnsplash.dto.photo.PresignedUploadRequest;
+import moe.solo.cloneUnsplash.dto.photo.PresignedUploadResponse;
 import moe.solo.cloneUnsplash.entity.Photo;
 import moe.solo.cloneUnsplash.entity.Tag;
 import moe.solo.cloneUnsplash.entity.User;
+import moe.solo.cloneUnsplash.exception.BadRequestException;
 import moe.solo.cloneUnsplash.exception.ResourceNotFoundException;
 import moe.solo.cloneUnsplash.exception.UnauthorizedException;
+import moe.solo.cloneUnsplash.image.ImageProbe;
 import moe.solo.cloneUnsplash.repository.LikeRepository;
+import moe.solo.cloneUnsplash.repository.PhotoBlobRepository;
 import moe.solo.cloneUnsplash.repository.PhotoRepository;
-import moe.solo.cloneUnsplash.repository.TagRepository;
 import moe.solo.cloneUnsplash.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.multipart.MultipartFile;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
 
-import javax.imageio.ImageIO;
-import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -32,94 +63,248 @@ import java.util.stream.Collectors;
 @Slf4j
 public class PhotoService {
 
+    private static final String PHOTO_FOLDER = "photos/";
+    private static final String STAGING_FOLDER = "photos/staging/";
+    static final String INCOMING_FOLDER = "photos/incoming/";
+
+    /*
+    직접 업로드된 파일의 헤더 확인용 Range 크기 (EXIF 등 메타데이터 세그먼트 포함)
+    */
+    private static final int PROBE_RANGE_BYTES = 256 * 1024;
+
     private final PhotoRepository photoRepository;
+    private final PhotoBlobRepository photoBlobRepository;
     private final UserRepository userRepository;
-    private final TagRepository tagRepository;
     private final LikeRepository likeRepository;
     private final S3Service s3Service;
+    private final S3AsyncService s3AsyncService;
+    private final PhotoViewCountBuffer viewCountBuffer;
+    private final UploadAdmission uploadAdmission;
+    private final PhotoFullTextIndex fullTextIndex;
+    private final PhotoSearchEngine searchEngine;
+    private final PhotoTagIndex tagIndex;
+    private final TagResolver tagResolver;
+    private final ApplicationEventPublisher eventPublisher;
 
-    @Transactional
-    public PhotoResponse uploadPhoto(MultipartFile file, PhotoUploadRequest request, String username) {
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new ResourceNotFoundException("사용자를 찾을 수 없습니다"));
+    @Value("${photo.upload.presign-expiration-ms:300000}")
+    private long presignExpirationMillis;
 
-        // 이미지 메타데이터 추출
-        BufferedImage image;
-        try {
-            image = ImageIO.read(file.getInputStream());
-            if (image == null) {
-                throw new IllegalArgumentException("유효하지 않은 이미지 파일입니다");
-            }
+    @Value("${spring.servlet.multipart.max-file-size:10MB}")
+    private DataSize maxFileSize;
+
+    @Transactional
+    public PhotoResponse uploadPhoto(MultipartFile file, PhotoUploadRequest request, Long currentUserId) {
+        User user = userRepository.getReferenceById(currentUserId);
+
+        // 업로드 스트림을 한 번만 읽으며 SHA-256 계산, 헤더 확인, S3 업로드를 함께 처리
+        MessageDigest digest = sha256();
+        ImageProbe.ImageInfo image;
+        StoredImage stored;
+        try (InputStream input = new DigestInputStream(file.getInputStream(), digest)) {
+            // 첫 파트만큼 읽어 헤더에서 크기 확인 (픽셀은 디코딩하지 않음)
+            byte[] head = input.readNBytes(S3Service.PART_SIZE);
+            image = probeImage(head);
+
+            // 후처리에서 디코딩할 수 없는 해상도는 저장 전에 거절 (디코딩 메모리 예약은 후처리 작업에서)
+            uploadAdmission.checkResolution(image.width(), image.height());
+            stored = storeImage(head, input, digest, image.format(), file.getContentType(), file.getSize());
         } catch (IOException e) {
             throw new RuntimeException("이미지 읽기 실패", e);
         }
 
-        // S3에 파일 업로드
-        String imageUrl = s3Service.uploadFile(file, "photos");
+        Photo photo = createPhoto(user, request.getTitle(), request.getDescription(), request.getTags(),
+                stored.key(), image, file.getSize());
+
+        // 이미 저장된 파일이면 후처리 결과를 그대로 사용
+        boolean processed = false;
+        if (stored.duplicate()) {
+            Optional<Photo> existing = photoRepository.findFirstByImageUrl(stored.key());
+            if (existing.isPresent() && existing.get().getBlurHash() != null) {
+                photo.setRenditionWidths(existing.get().getRenditionWidths());
+                photo.setThumbnailUrl(existing.get().getThumbnailUrl());
+                photo.setColor(existing.get().getColor());
+                photo.setBlurHash(existing.get().getBlurHash());
+                processed = true;
+            }
+        }
 
-        // Photo 엔티티 생성
-        Photo photo = Photo.builder()
-                .title(request.getTitle())
-                .description(request.getDescription())
-                .imageUrl(imageUrl)
-                .width(image.getWidth())
-                .height(image.getHeight())
-                .fileSize(file.getSize())
-                .user(user)
+        Photo saved = photoRepository.save(photo);
+        fullTextIndex.refresh(saved.getId());
+        searchEngine.index(saved);
+        tagIndex.add(saved.getId(), tagNames(saved));
+        userRepository.adjustPhotosCount(currentUserId, 1);
+        log.info("Photo uploaded: {} by user {} (sha256 {}, duplicate {})",
+                saved.getId(), currentUserId, stored.hash(), stored.duplicate());
+
+        // 리사이즈 이미지, 플레이스홀더 생성은 커밋 후 비동기로 처리
+        // (같은 파일의 이전 후처리가 실패했거나 건너뛰어진 경우도 다시 처리)
+        if (!processed) {
+            eventPublisher.publishEvent(new PhotoUploadedEvent(saved.getId(), saved.getImageUrl(), saved.getWidth(), saved.getHeight()));
+        }
+
+        return mapToPhotoResponse(saved, false);
+    }
+
+    /**
+     * 클라이언트가 스토리지에 직접 업로드할 presigned URL 발급
+     * 업로드 후 finalizeUpload로 사진을 등록한다
+     */
+    public PresignedUploadResponse createUploadUrl(PresignedUploadRequest request, Long currentUserId) {
+        if (request.getContentLength() > maxFileSize.toBytes()) {
+            throw new BadRequestException("업로드할 수 없는 파일 크기입니다");
+        }
+
+        String key = incomingFolder(currentUserId) + UUID.randomUUID();
+        PresignedPutObjectRequest presigned = s3Service.presignUpload(key, request.getContentType(),
+                request.getContentLength(), Duration.ofMillis(presignExpirationMillis));
+
+        return PresignedUploadResponse.builder()
+                .uploadKey(key)
+                .uploadUrl(presigned.url().toString())
+                .method("PUT")
+                .contentType(request.getContentType())
+                .contentLength(request.getContentLength())
+                .expiresAt(LocalDateTime.ofInstant(presigned.expiration(), ZoneId.systemDefault()))
                 .build();
+    }
+
+    /**
+     * 직접 업로드된 파일을 확인하고 사진으로 등록
+     * presigned URL이 만료되기 전에는 클라이언트가 업로드 키를 다시 덮어쓸 수 있으므로,
+     * 서버 소유 키로 복사한 뒤 복사본을 HEAD와 앞부분 Range 요청으로 확인하여 등록한다
+     */
+    @Transactional
+    public PhotoResponse finalizeUpload(PhotoFinalizeRequest request, Long currentUserId) {
+        String uploadKey = request.getUploadKey();
+        if (!uploadKey.startsWith(incomingFolder(currentUserId)) || uploadKey.contains("..")) {
+            throw new UnauthorizedException("본인이 업로드한 파일만 등록할 수 있습니다");
+        }
+        if (photoRepository.existsByUploadKey(uploadKey)) {
+            throw new BadRequestException("이미 등록된 파일입니다");
+        }
+        if (s3Service.headFile(uploadKey).isEmpty()) {
+            throw new ResourceNotFoundException("업로드된 파일을 찾을 수 없습니다");
+        }
+
+        // 커밋되면 업로드 키를, 롤백되면 복사본을 삭제 (등록되지 않은 업로드 키는 정리 작업이 삭제)
+        String key = PHOTO_FOLDER + UUID.randomUUID();
+        s3Service.copyFile(uploadKey, key);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                deleteQuietly(status == STATUS_COMMITTED ? uploadKey : key);
+            }
+        });
 
-        // 태그 처리
-        if (request.getTags() != null && !request.getTags().isEmpty()) {
-            List<Tag> tags = request.getTags().stream()
-                    .map(tagName -> tagRepository.findByName(tagName)
-                            .orElseGet(() -> tagRepository.save(Tag.builder().name(tagName).build())))
-                    .collect(Collectors.toList());
-            photo.getTags().addAll(tags);
+        long fileSize = s3Service.headFile(key)
+                .map(HeadObjectResponse::contentLength)
+                .orElseThrow(() -> new ResourceNotFoundException("업로드된 파일을 찾을 수 없습니다"));
+        if (fileSize == 0 || fileSize > maxFileSize.toBytes()) {
+            throw new BadRequestException("업로드할 수 없는 파일 크기입니다");
+        }
+
+        ImageProbe.ImageInfo image = probeImage(s3Service.getFileHead(key, (int) Math.min(fileSize, PROBE_RANGE_BYTES)));
+        // 후처리에서 디코딩할 수 없는 해상도는 업로드와 같이 거절
+        uploadAdmission.checkResolution(image.width(), image.height());
+
+        Photo photo = createPhoto(userRepository.getReferenceById(currentUserId), request.getTitle(),
+                request.getDescription(), request.getTags(), key, image, fileSize);
+        photo.setUploadKey(uploadKey);
+        Photo saved;
+        try {
+            // 동시에 같은 업로드를 등록하면 upload_key 유니크 제약으로 하나만 성공
+            saved = photoRepository.saveAndFlush(photo);
+        } catch (DataIntegrityViolationException e) {
+            throw new BadRequestException("이미 등록된 파일입니다");
         }
+        fullTextIndex.refresh(saved.getId());
+        searchEngine.index(saved);
+        tagIndex.add(saved.getId(), tagNames(saved));
+        userRepository.adjustPhotosCount(currentUserId, 1);
+        log.info("Photo finalized: {} by user {}", saved.getId(), currentUserId);
 
-        photo = photoRepository.save(photo);
-        log.info("Photo uploaded: {} by user {}", photo.getId(), username);
+        eventPublisher.publishEvent(new PhotoUploadedEvent(saved.getId(), saved.getImageUrl(), saved.getWidth(), saved.getHeight()));
 
-        return mapToPhotoResponse(photo, username);
+        return mapToPhotoResponse(saved, false);
     }
 
-    public PhotoResponse getPhoto(Long photoId, String username) {
+    public PhotoResponse getPhoto(Long photoId, Long currentUserId) {
         Photo photo = photoRepository.findById(photoId)
                 .orElseThrow(() -> new ResourceNotFoundException("사진을 찾을 수 없습니다: " + photoId));
 
-        // 조회수 증가
-        photo.setViewsCount(photo.getViewsCount() + 1);
-        photoRepository.save(photo);
+        // 조회수는 버퍼에 누적하고 주기적으로 일괄 반영
+        viewCountBuffer.increment(photoId);
 
-        return mapToPhotoResponse(photo, username);
+        PhotoResponse response = mapToPhotoResponse(photo, currentUserId);
+        response.setViewsCount(photo.getViewsCount() + viewCountBuffer.getPending(photoId));
+        return response;
     }
 
-    public PageResponse<PhotoResponse> getPhotos(Pageable pageable, String username) {
-        Page<Photo> photoPage = photoRepository.findAllByOrderByCreatedAtDesc(pageable);
-        return mapToPageResponse(photoPage, username);
+    public PageResponse<PhotoResponse> getPhotos(Pageable pageable, Long currentUserId) {
+        Page<Long> idPage = photoRepository.findPageIds(pageable);
+        return mapToPageResponse(idPage, currentUserId);
     }
 
-    public PageResponse<PhotoResponse> searchPhotos(String keyword, Pageable pageable, String username) {
-        Page<Photo> photoPage = photoRepository.searchByKeyword(keyword, pageable);
-        return mapToPageResponse(photoPage, username);
+    public PageResponse<PhotoResponse> searchPhotos(String keyword, Pageable pageable, Long currentUserId) {
+        Page<Long> idPage = searchEngine.search(keyword, pageable);
+        return mapToPageResponse(idPage, currentUserId);
     }
 
-    public PageResponse<PhotoResponse> getPhotosByTag(String tagName, Pageable pageable, String username) {
-        Page<Photo> photoPage = photoRepository.findByTagName(tagName, pageable);
-        return mapToPageResponse(photoPage, username);
+    public PageResponse<PhotoResponse> getPhotosByTag(String tagName, Pageable pageable, Long currentUserId) {
+        Page<Long> idPage = photoRepository.findPageIdsByTagName(tagName, pageable);
+        return mapToPageResponse(idPage, currentUserId);
     }
 
-    public PageResponse<PhotoResponse> getUserPhotos(Long userId, Pageable pageable, String username) {
-        Page<Photo> photoPage = photoRepository.findByUserId(userId, pageable);
-        return mapToPageResponse(photoPage, username);
+    /**
+     * 여러 태그 조합 조회 (all: 모두 포함, any: 하나 이상 포함, none: 제외)
+     */
+    public PageResponse<PhotoResponse> getPhotosByTags(List<String> all, List<String> any, List<String> none,
+            Pageable pageable, Long currentUserId) {
+        if (all.isEmpty() && any.isEmpty() && none.isEmpty()) {
+            throw new BadRequestException("조회할 태그를 지정해주세요");
+        }
+        Page<Long> idPage = tagIndex.query(all, any, none, pageable);
+        return mapToPageResponse(idPage, currentUserId);
+    }
+
+    public PageResponse<PhotoResponse> getUserPhotos(Long userId, Pageable pageable, Long currentUserId) {
+        Page<Long> idPage = photoRepository.findPageIdsByUserId(userId, pageable);
+        return mapToPageResponse(idPage, currentUserId);
+    }
+
+    public CursorResponse<PhotoResponse> getPhotosByCursor(String cursor, int size, Long currentUserId) {
+        PhotoCursor after = PhotoCursor.decode(cursor);
+        Pageable limit = cursorLimit(size);
+        List<Long> photoIds = after == null
+                ? photoRepository.findFirstIds(limit)
+                : photoRepository.findIdsBefore(after.getCreatedAt(), after.getId(), limit);
+        return mapToCursorResponse(photoIds, size, currentUserId);
+    }
+
+    public CursorResponse<PhotoResponse> getPhotosByTagAndCursor(String tagName, String cursor, int size, Long currentUserId) {
+        PhotoCursor after = PhotoCursor.decode(cursor);
+        Pageable limit = cursorLimit(size);
+        List<Long> photoIds = after == null
+                ? photoRepository.findFirstIdsByTagName(tagName, limit)
+                : photoRepository.findIdsByTagNameBefore(tagName, after.getCreatedAt(), after.getId(), limit);
+        return mapToCursorResponse(photoIds, size, currentUserId);
+    }
+
+    public CursorResponse<PhotoResponse> getUserPhotosByCursor(Long userId, String cursor, int size, Long currentUserId) {
+        PhotoCursor after = PhotoCursor.decode(cursor);
+        Pageable limit = cursorLimit(size);
+        List<Long> photoIds = after == null
+                ? photoRepository.findFirstIdsByUserId(userId, limit)
+                : photoRepository.findIdsByUserIdBefore(userId, after.getCreatedAt(), after.getId(), limit);
+        return mapToCursorResponse(photoIds, size, currentUserId);
     }
 
     @Transactional
-    public PhotoResponse updatePhoto(Long photoId, PhotoUpdateRequest request, String username) {
+    public PhotoResponse updatePhoto(Long photoId, PhotoUpdateRequest request, Long currentUserId) {
         Photo photo = photoRepository.findById(photoId)
                 .orElseThrow(() -> new ResourceNotFoundException("사진을 찾을 수 없습니다"));
 
-        if (!photo.getUser().getUsername().equals(username)) {
+        if (!photo.getUser().getId().equals(currentUserId)) {
             throw new UnauthorizedException("본인의 사진만 수정할 수 있습니다");
         }
 
@@ -130,50 +315,178 @@ public class PhotoService {
             photo.setDescription(request.getDescription());
         }
         if (request.getTags() != null) {
+            List<String> previousTags = tagNames(photo);
             photo.getTags().clear();
-            List<Tag> tags = request.getTags().stream()
-                    .map(tagName -> tagRepository.findByName(tagName)
-                            .orElseGet(() -> tagRepository.save(Tag.builder().name(tagName).build())))
-                    .collect(Collectors.toList());
-            photo.getTags().addAll(tags);
+            photo.getTags().addAll(tagResolver.resolve(request.getTags()));
+            tagIndex.retag(photo.getId(), previousTags, tagNames(photo));
         }
 
-        photo = photoRepository.save(photo);
+        // 영속 상태이므로 변경 감지로 반영 (merge하면 태그가 지연 로딩 프록시로 교체됨)
+        fullTextIndex.refresh(photo.getId());
+        searchEngine.index(photo);
         log.info("Photo updated: {}", photo.getId());
 
-        return mapToPhotoResponse(photo, username);
+        return mapToPhotoResponse(photo, currentUserId);
     }
 
     @Transactional
-    public void deletePhoto(Long photoId, String username) {
+    public void deletePhoto(Long photoId, Long currentUserId) {
         Photo photo = photoRepository.findById(photoId)
                 .orElseThrow(() -> new ResourceNotFoundException("사진을 찾을 수 없습니다"));
 
-        if (!photo.getUser().getUsername().equals(username)) {
+        if (!photo.getUser().getId().equals(currentUserId)) {
             throw new UnauthorizedException("본인의 사진만 삭제할 수 있습니다");
         }
 
-        // S3에서 파일 삭제
-        try {
-            s3Service.deleteFile(photo.getImageUrl());
-        } catch (Exception e) {
-            log.warn("Failed to delete photo file from S3: {}", e.getMessage());
+        // 같은 파일을 참조하는 다른 사진이 없을 때만 커밋 후 S3에서 파일 삭제
+        if (releaseImage(photo.getImageUrl())) {
+            eventPublisher.publishEvent(new PhotoImageReleasedEvent(photo.getImageUrl(), photo.getRenditionWidths()));
         }
 
+        tagIndex.remove(photoId, tagNames(photo));
         photoRepository.delete(photo);
+        searchEngine.remove(photoId);
+        userRepository.adjustPhotosCount(currentUserId, -1);
         log.info("Photo deleted: {}", photoId);
     }
 
-    private PhotoResponse mapToPhotoResponse(Photo photo, String currentUsername) {
-        User currentUser = currentUsername != null
-                ? userRepository.findByUsername(currentUsername).orElse(null)
-                : null;
+    private Photo createPhoto(User user, String title, String description, List<String> tagNames,
+            String imageKey, ImageProbe.ImageInfo image, long fileSize) {
+        Photo photo = Photo.builder()
+                .title(title)
+                .description(description)
+                .imageUrl(imageKey)
+                .width(image.width())
+                .height(image.height())
+                .fileSize(fileSize)
+                .user(user)
+                .build();
+
+        if (tagNames != null && !tagNames.isEmpty()) {
+            photo.getTags().addAll(tagResolver.resolve(tagNames));
+        }
+        return photo;
+    }
+
+    private static List<String> tagNames(Photo photo) {
+        return photo.getTags().stream()
+                .map(Tag::getName)
+                .collect(Collectors.toList());
+    }
+
+    private static String incomingFolder(Long userId) {
+        return INCOMING_FOLDER + userId + "/";
+    }
 
-        boolean liked = false;
-        if (currentUser != null) {
-            liked = likeRepository.existsByUserAndPhoto(currentUser, photo);
+    private void deleteAfterCompletion(String key) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            deleteQuietly(key);
+            return;
         }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                deleteQuietly(key);
+            }
+        });
+    }
+
+    private void deleteQuietly(String key) {
+        s3AsyncService.deleteFile(key)
+                .exceptionally(e -> {
+                    log.warn("Failed to delete file from S3: {}", e.getMessage());
+                    return null;
+                });
+    }
 
+    /*
+    파일 내용의 SHA-256으로 저장 키를 정하고, 같은 내용이 이미 있으면 참조 카운트만 증가
+    */
+    private StoredImage storeImage(byte[] head, InputStream rest, MessageDigest digest, String format,
+            String contentType, long fileSize) throws IOException {
+        if (head.length < S3Service.PART_SIZE) {
+            // 파일 전체가 첫 파트에 들어오면 네트워크 I/O 전에 해시가 확정되므로 중복이면 업로드 생략
+            String hash = HexFormat.of().formatHex(digest.digest());
+            Optional<String> existingKey = acquireExisting(hash);
+            if (existingKey.isPresent()) {
+                return new StoredImage(existingKey.get(), hash, true);
+            }
+
+            String key = contentKey(hash, format);
+            s3Service.uploadBytes(key, head, contentType);
+            photoBlobRepository.insertOrIncrement(hash, key, fileSize);
+            return new StoredImage(key, hash, false);
+        }
+
+        // 큰 파일은 임시 키로 업로드하면서 해시를 계산한 뒤 내용 기반 키로 복사
+        String stagingKey = STAGING_FOLDER + UUID.randomUUID();
+        s3Service.uploadStream(stagingKey, contentType, head, rest);
+        String hash = HexFormat.of().formatHex(digest.digest());
+        try {
+            Optional<String> existingKey = acquireExisting(hash);
+            if (existingKey.isPresent()) {
+                return new StoredImage(existingKey.get(), hash, true);
+            }
+
+            String key = contentKey(hash, format);
+            s3Service.copyFile(stagingKey, key);
+            photoBlobRepository.insertOrIncrement(hash, key, fileSize);
+            return new StoredImage(key, hash, false);
+        } finally {
+            // 임시 키는 어떤 행도 참조하지 않으므로 커밋/롤백과 관계없이 트랜잭션 종료 후 삭제
+            deleteAfterCompletion(stagingKey);
+        }
+    }
+
+    private Optional<String> acquireExisting(String hash) {
+        if (photoBlobRepository.incrementRefCount(hash) == 0) {
+            return Optional.empty();
+        }
+        return photoBlobRepository.findObjectKeyByHash(hash);
+    }
+
+    /*
+    참조 해제 후 마지막 참조였으면 true (참조 카운트가 없는 기존 파일도 true)
+    행 삭제는 S3 삭제와 함께 PhotoImageCleaner가 처리한다
+    */
+    private boolean releaseImage(String imageKey) {
+        if (photoBlobRepository.decrementRefCount(imageKey) == 0) {
+            return true;
+        }
+        return photoBlobRepository.findRefCountByObjectKey(imageKey)
+                .map(refCount -> refCount <= 0)
+                .orElse(true);
+    }
+
+    private static String contentKey(String hash, String format) {
+        String extension = "jpeg".equals(format) ? "jpg" : format;
+        return PHOTO_FOLDER + hash + "." + extension;
+    }
+
+    private ImageProbe.ImageInfo probeImage(byte[] head) {
+        try {
+            return ImageProbe.probe(new ByteArrayInputStream(head), uploadAdmission::admitUnknownSize);
+        } catch (IOException e) {
+            throw new BadRequestException("유효하지 않은 이미지 파일입니다");
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private PhotoResponse mapToPhotoResponse(Photo photo, Long currentUserId) {
+        boolean liked = currentUserId != null
+                && likeRepository.existsByUserIdAndPhotoId(currentUserId, photo.getId());
+
+        return mapToPhotoResponse(photo, liked);
+    }
+
+    private PhotoResponse mapToPhotoResponse(Photo photo, boolean liked) {
         return PhotoResponse.builder()
                 .id(photo.getId())
                 .title(photo.getTitle())
@@ -182,9 +495,11 @@ public class PhotoService {
                 .thumbnailUrl(photo.getThumbnailUrl() != null
                         ? s3Service.getFileUrl(photo.getThumbnailUrl())
                         : s3Service.getFileUrl(photo.getImageUrl()))
+                .renditions(mapRenditions(photo))
                 .width(photo.getWidth())
                 .height(photo.getHeight())
                 .color(photo.getColor())
+                .blurHash(photo.getBlurHash())
                 .viewsCount(photo.getViewsCount())
                 .downloadsCount(photo.getDownloadsCount())
                 .likesCount(photo.getLikesCount())
@@ -205,18 +520,94 @@ public class PhotoService {
                 .build();
     }
 
-    private PageResponse<PhotoResponse> mapToPageResponse(Page<Photo> photoPage, String username) {
-        List<PhotoResponse> content = photoPage.getContent().stream()
-                .map(photo -> mapToPhotoResponse(photo, username))
+    private Map<Integer, String> mapRenditions(Photo photo) {
+        Map<Integer, String> renditions = new LinkedHashMap<>();
+        for (int width : PhotoRenditionService.parseWidths(photo.getRenditionWidths())) {
+            renditions.put(width, s3Service.getFileUrl(PhotoRenditionService.renditionKey(photo.getImageUrl(), width)));
+        }
+        return renditions;
+    }
+
+    private PageResponse<PhotoResponse> mapToPageResponse(Page<Long> idPage, Long currentUserId) {
+        // ID 페이지를 먼저 조회한 뒤, 업로더와 태그를 조인하여 사진을 한 번에 로딩
+        List<Photo> photos = findPhotosWithUserAndTags(idPage.getContent());
+
+        // 페이지 단위로 현재 사용자의 좋아요 여부를 한 번에 조회
+        Set<Long> likedPhotoIds = findLikedPhotoIds(photos, currentUserId);
+
+        List<PhotoResponse> content = photos.stream()
+                .map(photo -> mapToPhotoResponse(photo, likedPhotoIds.contains(photo.getId())))
                 .collect(Collectors.toList());
 
         return PageResponse.<PhotoResponse>builder()
                 .content(content)
-                .page(photoPage.getNumber())
-                .size(photoPage.getSize())
-                .totalElements(photoPage.getTotalElements())
-                .totalPages(photoPage.getTotalPages())
-                .last(photoPage.isLast())
+                .page(idPage.getNumber())
+                .size(idPage.getSize())
+                .totalElements(idPage.getTotalElements())
+                .totalPages(idPage.getTotalPages())
+                .last(idPage.isLast())
+                .build();
+    }
+
+    /*
+    다음 페이지 존재 여부를 확인하기 위해 한 건을 더 조회
+    */
+    private Pageable cursorLimit(int size) {
+        return PageRequest.of(0, size + 1);
+    }
+
+    private CursorResponse<PhotoResponse> mapToCursorResponse(List<Long> photoIds, int size, Long currentUserId) {
+        boolean hasNext = photoIds.size() > size;
+        List<Photo> photos = findPhotosWithUserAndTags(hasNext ? photoIds.subList(0, size) : photoIds);
+        Set<Long> likedPhotoIds = findLikedPhotoIds(photos, currentUserId);
+
+        List<PhotoResponse> content = photos.stream()
+                .map(photo -> mapToPhotoResponse(photo, likedPhotoIds.contains(photo.getId())))
+                .collect(Collectors.toList());
+
+        String nextCursor = null;
+        if (hasNext && !photos.isEmpty()) {
+            Photo lastPhoto = photos.get(photos.size() - 1);
+            nextCursor = new PhotoCursor(lastPhoto.getCreatedAt(), lastPhoto.getId()).encode();
+        }
+
+        return CursorResponse.<PhotoResponse>builder()
+                .content(content)
+                .size(size)
+                .nextCursor(nextCursor)
+                .last(nextCursor == null)
                 .build();
     }
+
+    private List<Photo> findPhotosWithUserAndTags(List<Long> photoIds) {
+        if (photoIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        // IN 조회는 순서를 보장하지 않으므로 ID 페이지의 순서대로 다시 정렬
+        Map<Long, Photo> photosById = photoRepository.findAllWithUserAndTagsByIdIn(photoIds).stream()
+                .collect(Collectors.toMap(Photo::getId, Function.identity()));
+
+        return photoIds.stream()
+                .map(photosById::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    private Set<Long> findLikedPhotoIds(List<Photo> photos, Long currentUserId) {
+        if (currentUserId == null || photos.isEmpty()) {
+            return Collections.emptySet();
+        }
+
+        List<Long> photoIds = photos.stream()
+                .map(Photo::getId)
+                .collect(Collectors.toList());
+        return likeRepository.findLikedPhotoIds(currentUserId, photoIds);
+    }
+
+    /**
+     * 저장된 원본 파일 키와 이미 저장되어 있던 파일인지 여부
+     */
+    private record StoredImage(String key, String hash, boolean duplicate) {
+    }
 }
@@ -0,0 +1,276 @@
+package moe.solo.cloneUnsplash.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import moe.solo.cloneUnsplash.exception.ServiceUnavailableException;
+import moe.solo.cloneUnsplash.repository.PhotoRepository;
+import org.roaringbitmap.longlong.LongIterator;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * 태그별 사진 ID 비트맵 (Roaring) - 여러 태그의 AND/OR/NOT 조합 조회
+ * 시작 시 photo_tags를 스트리밍하여 잠금 없이 새 비트맵을 만든 뒤 교체하고,
+ * 사진 등록/태그 수정/삭제는 커밋 후 반영한다 (구축 중 변경은 기록해 두었다가 교체 시 다시 적용)
+ */
+@Component
+@Slf4j
+public class PhotoTagIndex {
+
+    private static final long NOT_READY_RETRY_SECONDS = 5;
+
+    private final PhotoRepository photoRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /*
+    현재 비트맵 (교체는 쓰기 잠금 안에서)
+    */
+    private Bitmaps bitmaps = new Bitmaps();
+
+    /*
+    구축 중 반영된 변경 (쓰기 잠금 안에서만 접근, 구축 중이 아니면 null)
+    */
+    private List<Consumer<Bitmaps>> changesDuringBuild;
+
+    private volatile boolean ready;
+
+    public PhotoTagIndex(PhotoRepository photoRepository, MeterRegistry meterRegistry) {
+        this.photoRepository = photoRepository;
+        Gauge.builder("photo.tag.index.tags", this, PhotoTagIndex::tagCount)
+                .description("태그 비트맵 수")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void build() {
+        long started = System.currentTimeMillis();
+        lock.writeLock().lock();
+        try {
+            changesDuringBuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Bitmaps built = new Bitmaps();
+        try (Stream<Object[]> rows = photoRepository.streamTagAssignments()) {
+            rows.forEach(row -> {
+                long photoId = (Long) row[0];
+                built.all.addLong(photoId);
+                if (row[1] != null) {
+                    built.tag((String) row[1]).addLong(photoId);
+                }
+            });
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                changesDuringBuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+        built.byTag.values().forEach(Roaring64Bitmap::runOptimize);
+        built.all.runOptimize();
+
+        // 스트리밍 결과가 변경 전/후 어느 쪽이든, 변경을 순서대로 다시 적용하면 최신 상태가 됨
+        int replayed;
+        lock.writeLock().lock();
+        try {
+            changesDuringBuild.forEach(change -> change.accept(built));
+            replayed = changesDuringBuild.size();
+            changesDuringBuild = null;
+            bitmaps = built;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        ready = true;
+        log.info("Tag bitmap index built: {} tags, {} photos in {} ms ({} changes replayed)",
+                built.byTag.size(), built.all.getLongCardinality(), System.currentTimeMillis() - started, replayed);
+    }
+
+    /**
+     * 모든 all 태그를 가지고, any 태그 중 하나 이상을 가지며, none 태그는 없는 사진 ID (최신순 페이지)
+     */
+    public Page<Long> query(Collection<String> all, Collection<String> any, Collection<String> none, Pageable pageable) {
+        if (!ready) {
+            throw new ServiceUnavailableException("태그 색인을 준비 중입니다", NOT_READY_RETRY_SECONDS);
+        }
+
+        Roaring64Bitmap result;
+        lock.readLock().lock();
+        try {
+            result = match(bitmaps, all, any, none);
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        // 비트맵은 오름차순이므로 역순 반복자로 offset만큼 건너뛴 뒤 ID 내림차순 페이지 구성
+        long total = result.getLongCardinality();
+        List<Long> content = new ArrayList<>(pageable.getPageSize());
+        if (pageable.getOffset() < total) {
+            LongIterator ids = result.getReverseLongIterator();
+            for (long skipped = 0; skipped < pageable.getOffset(); skipped++) {
+                ids.next();
+            }
+            while (ids.hasNext() && content.size() < pageable.getPageSize()) {
+                content.add(ids.next());
+            }
+        }
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    private static Roaring64Bitmap match(Bitmaps bitmaps, Collection<String> all, Collection<String> any,
+            Collection<String> none) {
+        Roaring64Bitmap result = null;
+        for (String tag : all) {
+            Roaring64Bitmap bitmap = bitmaps.byTag.get(tag);
+            if (bitmap == null) {
+                return new Roaring64Bitmap();
+            }
+            if (result == null) {
+                result = bitmap.clone();
+            } else {
+                result.and(bitmap);
+            }
+        }
+
+        if (!any.isEmpty()) {
+            Roaring64Bitmap union = new Roaring64Bitmap();
+            for (String tag : any) {
+                Roaring64Bitmap bitmap = bitmaps.byTag.get(tag);
+                if (bitmap != null) {
+                    union.or(bitmap);
+                }
+            }
+            if (result == null) {
+                result = union;
+            } else {
+                result.and(union);
+            }
+        }
+
+        if (result == null) {
+            result = bitmaps.all.clone();
+        }
+        for (String tag : none) {
+            Roaring64Bitmap bitmap = bitmaps.byTag.get(tag);
+            if (bitmap != null) {
+                result.andNot(bitmap);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 새 사진 등록
+     */
+    public void add(Long photoId, Collection<String> tagNames) {
+        List<String> added = List.copyOf(tagNames);
+        afterCommit(target -> {
+            target.all.addLong(photoId);
+            added.forEach(tag -> target.tag(tag).addLong(photoId));
+        });
+    }
+
+    /**
+     * 사진 태그 변경 (이전 태그에서 제거 후 새 태그에 추가)
+     */
+    public void retag(Long photoId, Collection<String> previousTagNames, Collection<String> tagNames) {
+        List<String> removed = List.copyOf(previousTagNames);
+        List<String> added = List.copyOf(tagNames);
+        afterCommit(target -> {
+            removed.forEach(tag -> target.removeFromTag(tag, photoId));
+            added.forEach(tag -> target.tag(tag).addLong(photoId));
+        });
+    }
+
+    public void remove(Long photoId, Collection<String> tagNames) {
+        List<String> removed = List.copyOf(tagNames);
+        afterCommit(target -> {
+            target.all.removeLong(photoId);
+            removed.forEach(tag -> target.removeFromTag(tag, photoId));
+        });
+    }
+
+    /*
+    롤백된 변경이 색인에 남지 않도록 커밋 후 쓰기 잠금을 잡고 반영
+    */
+    private void afterCommit(Consumer<Bitmaps> change) {
+        Runnable apply = () -> {
+            lock.writeLock().lock();
+            try {
+                change.accept(bitmaps);
+                if (changesDuringBuild != null) {
+                    changesDuringBuild.add(change);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        };
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply.run();
+            }
+        });
+    }
+
+    private int tagCount() {
+        lock.readLock().lock();
+        try {
+            return bitmaps.byTag.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /*
+    태그별 비트맵과 전체 사진 비트맵 (none 조건만 있는 조회의 기준 집합)
+    */
+    private static final class Bitmaps {
+
+        private final Map<String, Roaring64Bitmap> byTag = new HashMap<>();
+        private final Roaring64Bitmap all = new Roaring64Bitmap();
+
+        private Roaring64Bitmap tag(String name) {
+            return byTag.computeIfAbsent(name, key -> new Roaring64Bitmap());
+        }
+
+        private void removeFromTag(String name, long photoId) {
+            Roaring64Bitmap bitmap = byTag.get(name);
+            if (bitmap != null) {
+                bitmap.removeLong(photoId);
+                if (bitmap.isEmpty()) {
+                    byTag.remove(name);
+                }
+            }
+        }
+    }
+}
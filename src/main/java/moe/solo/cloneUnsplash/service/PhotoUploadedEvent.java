@@ -0,0 +1,7 @@
+package moe.solo.cloneUnsplash.service;
+
+/**
+ * 사진 업로드 완료 이벤트 (트랜잭션 커밋 후 후처리 시작)
+ */
+public record PhotoUploadedEvent(Long photoId, String imageKey, int width, int height) {
+}
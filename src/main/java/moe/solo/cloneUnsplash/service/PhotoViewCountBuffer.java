@@ -0,0 +1,127 @@
+package moe.solo.cloneUnsplash.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 사진 조회수 쓰기 지연 버퍼
+ * 조회 시에는 메모리의 사진별 카운터만 증가시키고, 주기적으로 누적분을 일괄 UPDATE 한다
+ */
+@Component
+@Slf4j
+public class PhotoViewCountBuffer {
+
+    private static final String INCREMENT_SQL = "UPDATE photos SET views_count = views_count + ? WHERE id = ?";
+
+    private final Map<Long, LongAdder> pending = new ConcurrentHashMap<>();
+
+    /*
+    직전 주기에 버퍼에서 제거한 카운터 (flush에서만 사용)
+    제거 직전에 카운터를 가져간 조회가 증가시킨 값을 다음 주기에 다시 옮긴다
+    */
+    private final Map<Long, LongAdder> retired = new HashMap<>();
+    private final JdbcTemplate jdbcTemplate;
+    private final Counter bufferedCounter;
+    private final Counter flushedCounter;
+
+    public PhotoViewCountBuffer(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.bufferedCounter = Counter.builder("photo.views.buffered")
+                .description("버퍼에 누적된 조회수")
+                .register(meterRegistry);
+        this.flushedCounter = Counter.builder("photo.views.flushed")
+                .description("DB에 반영된 조회수")
+                .register(meterRegistry);
+        Gauge.builder("photo.views.pending", pending, Map::size)
+                .description("반영 대기 중인 사진 수")
+                .register(meterRegistry);
+    }
+
+    public void increment(Long photoId) {
+        // 이미 있는 카운터는 잠금 없이 증가 (인기 사진의 조회가 한 버킷 잠금에 몰리지 않도록)
+        LongAdder adder = pending.get(photoId);
+        if (adder == null) {
+            adder = pending.computeIfAbsent(photoId, id -> new LongAdder());
+        }
+        adder.increment();
+        bufferedCounter.increment();
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 조회수
+     */
+    public long getPending(Long photoId) {
+        LongAdder adder = pending.get(photoId);
+        return adder != null ? adder.sum() : 0L;
+    }
+
+    @Scheduled(fixedDelayString = "${photo.views.flush-interval-ms:5000}")
+    public synchronized void flush() {
+        List<Object[]> batch = new ArrayList<>();
+        long total = 0;
+
+        retired.forEach(this::restore);
+        retired.clear();
+
+        for (Map.Entry<Long, LongAdder> entry : pending.entrySet()) {
+            long delta = entry.getValue().sumThenReset();
+            if (delta == 0) {
+                // 한 주기 동안 조회가 없었던 사진은 버퍼에서 제거
+                // 제거와 동시에 증가한 값은 새 카운터로 옮기고, 그 뒤 늦게 증가한 값은 다음 주기에 옮긴다
+                if (pending.remove(entry.getKey(), entry.getValue())) {
+                    restore(entry.getKey(), entry.getValue());
+                    retired.put(entry.getKey(), entry.getValue());
+                }
+                continue;
+            }
+            batch.add(new Object[] { delta, entry.getKey() });
+            total += delta;
+        }
+
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        // 여러 노드가 동시에 반영할 때 행 잠금 순서를 맞추기 위해 ID 순으로 정렬
+        batch.sort(Comparator.comparing(row -> (Long) row[1]));
+
+        try {
+            jdbcTemplate.batchUpdate(INCREMENT_SQL, batch);
+            flushedCounter.increment(total);
+            log.debug("Flushed {} views for {} photos", total, batch.size());
+        } catch (DataAccessException e) {
+            // 실패한 누적분은 다음 주기에 다시 반영
+            log.warn("Failed to flush photo views, will retry: {}", e.getMessage());
+            for (Object[] row : batch) {
+                pending.computeIfAbsent((Long) row[1], id -> new LongAdder()).add((Long) row[0]);
+            }
+        }
+    }
+
+    private void restore(Long photoId, LongAdder removed) {
+        long leftover = removed.sumThenReset();
+        if (leftover != 0) {
+            pending.computeIfAbsent(photoId, id -> new LongAdder()).add(leftover);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
@@ -0,0 +1,99 @@
+package moe.solo.cloneUnsplash.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * S3Service의 비동기 버전
+ * 요청 스레드를 S3 왕복 시간 동안 붙잡지 않도록 결과를 CompletableFuture로 반환한다
+ */
+@Service
+@Slf4j
+public class S3AsyncService {
+
+    private final S3AsyncClient s3AsyncClient;
+    private final AtomicInteger uploadsInFlight = new AtomicInteger();
+    private final AtomicInteger deletesInFlight = new AtomicInteger();
+    private final AtomicInteger getsInFlight = new AtomicInteger();
+
+    @Value("${s3.bucket-name}")
+    private String bucketName;
+
+    public S3AsyncService(S3AsyncClient s3AsyncClient, MeterRegistry meterRegistry) {
+        this.s3AsyncClient = s3AsyncClient;
+        registerInFlightGauge(meterRegistry, "upload", uploadsInFlight);
+        registerInFlightGauge(meterRegistry, "delete", deletesInFlight);
+        registerInFlightGauge(meterRegistry, "get", getsInFlight);
+    }
+
+    /**
+     * 바이트 배열 업로드
+     */
+    public CompletableFuture<Void> uploadBytes(String key, byte[] bytes, String contentType) {
+        PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .contentType(contentType)
+                .build();
+
+        return track(uploadsInFlight, () -> s3AsyncClient.putObject(putObjectRequest, AsyncRequestBody.fromBytes(bytes)))
+                .thenAccept(response -> log.debug("File uploaded successfully to S3: {}", key));
+    }
+
+    /**
+     * 파일 삭제
+     */
+    public CompletableFuture<Void> deleteFile(String key) {
+        DeleteObjectRequest deleteObjectRequest = DeleteObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .build();
+
+        return track(deletesInFlight, () -> s3AsyncClient.deleteObject(deleteObjectRequest))
+                .thenAccept(response -> log.info("File deleted successfully from S3: {}", key));
+    }
+
+    /**
+     * 파일 내용 조회
+     */
+    public CompletableFuture<byte[]> getFileBytes(String key) {
+        GetObjectRequest getObjectRequest = GetObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .build();
+
+        return track(getsInFlight, () -> s3AsyncClient.getObject(getObjectRequest, AsyncResponseTransformer.toBytes()))
+                .thenApply(ResponseBytes::asByteArray);
+    }
+
+    private <T> CompletableFuture<T> track(AtomicInteger inFlight, Supplier<CompletableFuture<T>> request) {
+        inFlight.incrementAndGet();
+        try {
+            return request.get().whenComplete((result, e) -> inFlight.decrementAndGet());
+        } catch (RuntimeException e) {
+            inFlight.decrementAndGet();
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private static void registerInFlightGauge(MeterRegistry meterRegistry, String operation, AtomicInteger inFlight) {
+        Gauge.builder("s3.async.inflight", inFlight, AtomicInteger::get)
+                .description("진행 중인 S3 비동기 요청 수")
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+}
@@ -3,22 +3,46 @@ package moe.solo.cloneUnsplash.service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.exception.SdkException;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.*;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
 
 import jakarta.annotation.PostConstruct;
+import java.io.IOException;
 import java.io.InputStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class S3Service {
 
+    /*
+    멀티파트 업로드 파트 크기 (S3 최소 파트 크기 5MB)
+    */
+    public static final int PART_SIZE = 5 * 1024 * 1024;
+
+    private static final long RETRY_BACKOFF_MILLIS = 200;
+
     private final S3Client s3Client;
+    private final S3Presigner s3Presigner;
+    private final ThreadPoolTaskExecutor s3TransferExecutor;
 
     @Value("${s3.bucket-name}")
     private String bucketName;
@@ -38,6 +62,12 @@ public class S3Service {
     @Value("${s3.secret-key}")
     private String secretKey;
 
+    @Value("${s3.multipart.parallelism:4}")
+    private int multipartParallelism;
+
+    @Value("${s3.multipart.max-attempts:3}")
+    private int multipartMaxAttempts;
+
     @PostConstruct
     public void init() {
         try {
@@ -68,13 +98,15 @@ public class S3Service {
      */
     public String uploadFile(MultipartFile file, String folder) {
         try {
-            // 고유한 파일명 생성
-            String originalFilename = file.getOriginalFilename();
-            String extension = originalFilename != null && originalFilename.contains(".")
-                    ? originalFilename.substring(originalFilename.lastIndexOf("."))
-                    : "";
-            String filename = UUID.randomUUID().toString() + extension;
-            String key = folder + "/" + filename;
+            String key = generateKey(folder, file.getOriginalFilename());
+
+            if (file.getSize() > PART_SIZE) {
+                // 큰 파일은 멀티파트로 나누어 병렬 업로드
+                try (InputStream input = file.getInputStream()) {
+                    uploadStream(key, file.getContentType(), input.readNBytes(PART_SIZE), input);
+                }
+                return key;
+            }
 
             PutObjectRequest putObjectRequest = PutObjectRequest.builder()
                     .bucket(bucketName)
@@ -93,6 +125,254 @@ public class S3Service {
         }
     }
 
+    /**
+     * 스트림 업로드
+     * 이미 읽어 둔 앞부분(head)과 나머지 스트림을 이어서 한 번만 읽으며 업로드한다
+     * 전체가 head에 들어가면 단일 PUT, 아니면 PART_SIZE 단위 멀티파트 업로드
+     */
+    public void uploadStream(String key, String contentType, byte[] head, InputStream rest) {
+        try {
+            byte[] next = rest.readNBytes(PART_SIZE);
+            if (next.length == 0) {
+                PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                        .bucket(bucketName)
+                        .key(key)
+                        .contentType(contentType)
+                        .build();
+                s3Client.putObject(putObjectRequest, RequestBody.fromBytes(head));
+            } else {
+                uploadMultipart(key, contentType, head, next, rest);
+            }
+        } catch (IOException e) {
+            log.error("Error reading upload stream", e);
+            throw new RuntimeException("Could not upload file", e);
+        }
+
+        log.info("File uploaded successfully to S3: {}", key);
+    }
+
+    /*
+    파트는 스트림에서 순서대로 읽고, 업로드는 s3TransferExecutor에서 동시에 진행
+    동시에 업로드 중인 파트 수를 제한하여 버퍼 메모리도 (parallelism + 1) x PART_SIZE 이내로 유지한다
+    */
+    private void uploadMultipart(String key, String contentType, byte[] first, byte[] second, InputStream rest)
+            throws IOException {
+        String uploadId = s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                        .bucket(bucketName)
+                        .key(key)
+                        .contentType(contentType)
+                        .build())
+                .uploadId();
+
+        Semaphore inFlight = new Semaphore(multipartParallelism);
+        List<CompletableFuture<CompletedPart>> futures = new ArrayList<>();
+        try {
+            futures.add(submitPart(key, uploadId, 1, first, inFlight));
+
+            byte[] part = second;
+            while (part.length > 0 && futures.stream().noneMatch(CompletableFuture::isCompletedExceptionally)) {
+                futures.add(submitPart(key, uploadId, futures.size() + 1, part, inFlight));
+                part = rest.readNBytes(PART_SIZE);
+            }
+
+            // 모든 파트가 끝날 때까지 기다린 뒤 실패한 파트가 있으면 예외 발생
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+
+            List<CompletedPart> parts = futures.stream()
+                    .map(CompletableFuture::join)
+                    .collect(Collectors.toList());
+
+            s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .multipartUpload(CompletedMultipartUpload.builder().parts(parts).build())
+                    .build());
+        } catch (IOException | RuntimeException e) {
+            // 진행 중인 파트가 끝난 뒤 중단해야 업로드된 파트가 남지 않는다
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                    .exceptionally(ex -> null)
+                    .join();
+            abortMultipart(key, uploadId);
+            if (e instanceof CompletionException && e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private CompletableFuture<CompletedPart> submitPart(String key, String uploadId, int partNumber, byte[] bytes,
+            Semaphore inFlight) {
+        try {
+            inFlight.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while uploading file", e);
+        }
+
+        CompletableFuture<CompletedPart> future;
+        try {
+            future = CompletableFuture.supplyAsync(
+                    () -> uploadPartWithRetry(key, uploadId, partNumber, bytes), s3TransferExecutor);
+        } catch (RuntimeException e) {
+            inFlight.release();
+            throw e;
+        }
+        future.whenComplete((part, e) -> inFlight.release());
+        return future;
+    }
+
+    /*
+    파트 단위 재시도 (실패한 파트만 다시 전송)
+    */
+    private CompletedPart uploadPartWithRetry(String key, String uploadId, int partNumber, byte[] bytes) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return uploadPart(key, uploadId, partNumber, bytes);
+            } catch (SdkException e) {
+                if (attempt >= multipartMaxAttempts) {
+                    throw e;
+                }
+                log.warn("Part {} of upload {} failed (attempt {}), retrying: {}",
+                        partNumber, uploadId, attempt, e.getMessage());
+                try {
+                    Thread.sleep(RETRY_BACKOFF_MILLIS * attempt);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    throw e;
+                }
+            }
+        }
+    }
+
+    private CompletedPart uploadPart(String key, String uploadId, int partNumber, byte[] bytes) {
+        UploadPartResponse response = s3Client.uploadPart(UploadPartRequest.builder()
+                        .bucket(bucketName)
+                        .key(key)
+                        .uploadId(uploadId)
+                        .partNumber(partNumber)
+                        .build(),
+                RequestBody.fromBytes(bytes));
+
+        return CompletedPart.builder()
+                .partNumber(partNumber)
+                .eTag(response.eTag())
+                .build();
+    }
+
+    private void abortMultipart(String key, String uploadId) {
+        try {
+            s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .build());
+        } catch (Exception e) {
+            log.warn("Failed to abort multipart upload {}: {}", uploadId, e.getMessage());
+        }
+    }
+
+    /**
+     * 바이트 배열 업로드 (서버에서 생성한 파일)
+     */
+    public void uploadBytes(String key, byte[] bytes, String contentType) {
+        try {
+            PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .contentType(contentType)
+                    .build();
+
+            s3Client.putObject(putObjectRequest, RequestBody.fromBytes(bytes));
+            log.debug("File uploaded successfully to S3: {}", key);
+        } catch (Exception e) {
+            log.error("Error uploading file to S3", e);
+            throw new RuntimeException("Could not upload file", e);
+        }
+    }
+
+    /**
+     * 클라이언트가 직접 업로드할 presigned PUT URL 생성
+     * Content-Type과 Content-Length가 서명에 포함되어 지정한 크기의 파일만 업로드할 수 있다
+     */
+    public PresignedPutObjectRequest presignUpload(String key, String contentType, long contentLength,
+            Duration expiration) {
+        PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .contentType(contentType)
+                .contentLength(contentLength)
+                .build();
+
+        return s3Presigner.presignPutObject(PutObjectPresignRequest.builder()
+                .signatureDuration(expiration)
+                .putObjectRequest(putObjectRequest)
+                .build());
+    }
+
+    /**
+     * 파일 메타데이터 조회 (파일이 없으면 empty)
+     */
+    public Optional<HeadObjectResponse> headFile(String key) {
+        try {
+            return Optional.of(s3Client.headObject(HeadObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .build()));
+        } catch (NoSuchKeyException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 파일 앞부분만 조회 (Range 요청)
+     */
+    public byte[] getFileHead(String key, int length) {
+        try {
+            GetObjectRequest getObjectRequest = GetObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .range("bytes=0-" + (length - 1))
+                    .build();
+
+            return s3Client.getObjectAsBytes(getObjectRequest).asByteArray();
+        } catch (Exception e) {
+            log.error("Error getting file range from S3", e);
+            throw new RuntimeException("Could not get file", e);
+        }
+    }
+
+    /**
+     * 버킷 내 파일 복사 (서버 측 복사)
+     */
+    public void copyFile(String sourceKey, String targetKey) {
+        try {
+            CopyObjectRequest copyObjectRequest = CopyObjectRequest.builder()
+                    .sourceBucket(bucketName)
+                    .sourceKey(sourceKey)
+                    .destinationBucket(bucketName)
+                    .destinationKey(targetKey)
+                    .build();
+
+            s3Client.copyObject(copyObjectRequest);
+            log.debug("File copied in S3: {} -> {}", sourceKey, targetKey);
+        } catch (Exception e) {
+            log.error("Error copying file in S3", e);
+            throw new RuntimeException("Could not copy file", e);
+        }
+    }
+
+    /**
+     * 접두어 아래의 파일 목록 (페이지 단위로 지연 조회)
+     */
+    public Iterable<S3Object> listFiles(String prefix) {
+        return s3Client.listObjectsV2Paginator(ListObjectsV2Request.builder()
+                        .bucket(bucketName)
+                        .prefix(prefix)
+                        .build())
+                .contents();
+    }
+
     /**
      * 파일 URL 생성 (퍼블릭 URL)
      */
@@ -121,14 +401,42 @@ public class S3Service {
         }
     }
 
+    /**
+     * 고유한 파일명 생성 (원본 확장자 유지)
+     */
+    private String generateKey(String folder, String originalFilename) {
+        String extension = originalFilename != null && originalFilename.contains(".")
+                ? originalFilename.substring(originalFilename.lastIndexOf("."))
+                : "";
+        return folder + "/" + UUID.randomUUID() + extension;
+    }
+
     /**
      * 파일 다운로드 스트림
      */
-    public InputStream getFileStream(String key) {
+    public ResponseInputStream<GetObjectResponse> getFileStream(String key) {
+        try {
+            GetObjectRequest getObjectRequest = GetObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .build();
+
+            return s3Client.getObject(getObjectRequest);
+        } catch (Exception e) {
+            log.error("Error getting file stream from S3", e);
+            throw new RuntimeException("Could not get file stream", e);
+        }
+    }
+
+    /**
+     * 파일 일부 다운로드 스트림 (start ~ end 바이트, end 포함)
+     */
+    public ResponseInputStream<GetObjectResponse> getFileStream(String key, long start, long end) {
         try {
             GetObjectRequest getObjectRequest = GetObjectRequest.builder()
                     .bucket(bucketName)
                     .key(key)
+                    .range("bytes=" + start + "-" + end)
                     .build();
 
             return s3Client.getObject(getObjectRequest);
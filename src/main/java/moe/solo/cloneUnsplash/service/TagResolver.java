@@ -0,0 +1,129 @@
+package moe.solo.cloneUnsplash.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import moe.solo.cloneUnsplash.entity.Tag;
+import moe.solo.cloneUnsplash.repository.TagRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Array;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 태그 이름 목록 -> 태그 일괄 조회/생성
+ * 캐시에 없는 이름은 IN 조회 한 번, 그래도 없는 이름은 INSERT ... ON CONFLICT DO NOTHING 한 번으로 만든다
+ * (동시에 같은 태그를 만드는 업로드가 있어도 유니크 제약 오류 없이 기존 태그를 사용)
+ */
+@Component
+public class TagResolver {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO tags (name) SELECT unnest(?) ON CONFLICT (name) DO NOTHING RETURNING id, name";
+
+    private final TagRepository tagRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TagSuggestionService tagSuggestionService;
+
+    /*
+    태그 이름 -> ID (태그는 삭제되지 않으므로 만료 없이 크기만 제한)
+    */
+    private final Cache<String, Long> ids;
+
+    public TagResolver(TagRepository tagRepository, JdbcTemplate jdbcTemplate,
+            TagSuggestionService tagSuggestionService,
+            @Value("${tag.cache.max-size:10000}") long maxSize) {
+        this.tagRepository = tagRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.tagSuggestionService = tagSuggestionService;
+        this.ids = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .build();
+    }
+
+    /**
+     * 이름 순서대로 태그 반환 (중복 이름은 한 번만)
+     * 반환된 태그는 영속성 컨텍스트에 없는 id/name만 채운 객체이며, 사진과의 연관 관계 저장에만 사용한다
+     */
+    public List<Tag> resolve(List<String> tagNames) {
+        Set<String> names = tagNames.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        Map<String, Long> resolved = new HashMap<>(ids.getAllPresent(names));
+
+        List<String> missing = names.stream()
+                .filter(name -> !resolved.containsKey(name))
+                .collect(Collectors.toList());
+        if (!missing.isEmpty()) {
+            tagRepository.findAllByNameIn(missing).forEach(tag -> {
+                resolved.put(tag.getName(), tag.getId());
+                ids.put(tag.getName(), tag.getId());
+            });
+            missing.removeIf(resolved::containsKey);
+        }
+
+        if (!missing.isEmpty()) {
+            Map<String, Long> created = insertMissing(missing);
+            resolved.putAll(created);
+            afterCommit(() -> {
+                ids.putAll(created);
+                created.keySet().forEach(tagSuggestionService::tagCreated);
+            });
+
+            // 다른 트랜잭션이 먼저 만든 이름은 RETURNING에 나오지 않으므로 다시 조회
+            missing.removeIf(resolved::containsKey);
+            if (!missing.isEmpty()) {
+                tagRepository.findAllByNameIn(missing)
+                        .forEach(tag -> resolved.put(tag.getName(), tag.getId()));
+            }
+        }
+
+        List<Tag> tags = new ArrayList<>(names.size());
+        for (String name : names) {
+            Long id = resolved.get(name);
+            if (id != null) {
+                tags.add(Tag.builder().id(id).name(name).build());
+            }
+        }
+        return tags;
+    }
+
+    private Map<String, Long> insertMissing(List<String> names) {
+        Map<String, Long> created = new HashMap<>();
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(INSERT_SQL);
+            Array array = connection.createArrayOf("varchar", names.toArray());
+            statement.setArray(1, array);
+            return statement;
+        }, (RowCallbackHandler) rs -> created.put(rs.getString("name"), rs.getLong("id")));
+        return created;
+    }
+
+    /*
+    롤백되면 존재하지 않는 태그가 캐시와 자동완성에 남으므로 새로 만든 태그는 커밋 후 반영
+    */
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,93 @@
+package moe.solo.cloneUnsplash.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import moe.solo.cloneUnsplash.dto.tag.TagSuggestionResponse;
+import moe.solo.cloneUnsplash.repository.TagRepository;
+import moe.solo.cloneUnsplash.search.PrefixSuggester;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Collectors;
+
+/**
+ * 태그 자동완성 - 사용 횟수 순으로 접두어가 일치하는 태그 제안
+ * 주기적으로 전체 태그와 사용 횟수를 다시 읽어 불변 색인을 교체하고,
+ * 그 사이 새로 만들어진 태그는 별도 맵에 두었다가 함께 조회한다
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TagSuggestionService {
+
+    public static final int MAX_LIMIT = 20;
+
+    private final TagRepository tagRepository;
+
+    private volatile PrefixSuggester suggester = PrefixSuggester.empty();
+
+    /*
+    마지막 재구축 이후 생성된 태그 (소문자 키 -> 제안)
+    */
+    private final NavigableMap<String, PrefixSuggester.Suggestion> created = new ConcurrentSkipListMap<>();
+
+    @Scheduled(fixedDelayString = "${tag.suggest.rebuild-interval-ms:600000}")
+    public void rebuild() {
+        long started = System.currentTimeMillis();
+
+        List<PrefixSuggester.Suggestion> entries = tagRepository.findAllNamesWithPhotoCount().stream()
+                .map(row -> new PrefixSuggester.Suggestion((String) row[0], (Long) row[1]))
+                .collect(Collectors.toList());
+        PrefixSuggester rebuilt = new PrefixSuggester(entries);
+        suggester = rebuilt;
+
+        // 조회 시점에 보이지 않았던 태그는 다음 재구축까지 남겨두도록 새 색인에 들어간 항목만 제거
+        created.keySet().removeIf(rebuilt::contains);
+
+        log.debug("Tag suggestions rebuilt: {} tags in {} ms", entries.size(), System.currentTimeMillis() - started);
+    }
+
+    /**
+     * 새 태그 생성 반영 (다음 재구축 전까지 별도 맵에서 조회)
+     */
+    public void tagCreated(String name) {
+        if (!suggester.contains(name)) {
+            created.putIfAbsent(PrefixSuggester.key(name), new PrefixSuggester.Suggestion(name, 1));
+        }
+    }
+
+    public List<TagSuggestionResponse> suggest(String prefix, int limit) {
+        int size = Math.max(1, Math.min(limit, MAX_LIMIT));
+        if (prefix == null || prefix.isBlank()) {
+            return List.of();
+        }
+
+        List<PrefixSuggester.Suggestion> suggestions = suggester.suggest(prefix.strip(), size);
+        String key = PrefixSuggester.key(prefix.strip());
+        Map<String, PrefixSuggester.Suggestion> recent = created.subMap(key, key + Character.MAX_VALUE);
+        if (!recent.isEmpty()) {
+            // 같은 태그가 양쪽에 있으면 색인 쪽 횟수를 사용
+            Map<String, PrefixSuggester.Suggestion> merged = new LinkedHashMap<>();
+            recent.values().forEach(suggestion -> merged.put(PrefixSuggester.key(suggestion.name()), suggestion));
+            suggestions.forEach(suggestion -> merged.put(PrefixSuggester.key(suggestion.name()), suggestion));
+            suggestions = merged.values().stream()
+                    .sorted(Comparator.comparingLong(PrefixSuggester.Suggestion::count).reversed()
+                            .thenComparing(suggestion -> PrefixSuggester.key(suggestion.name())))
+                    .limit(size)
+                    .collect(Collectors.toList());
+        }
+
+        return suggestions.stream()
+                .map(suggestion -> TagSuggestionResponse.builder()
+                        .name(suggestion.name())
+                        .photosCount(suggestion.count())
+                        .build())
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,172 @@
+package moe.solo.cloneUnsplash.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import moe.solo.cloneUnsplash.exception.BadRequestException;
+import moe.solo.cloneUnsplash.exception.TooManyRequestsException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.Closeable;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 이미지 디코딩 메모리 예산 기반 동시 처리 제한
+ * 디코딩할 크기로 메모리(너비 x 높이 x 4바이트)를 추정하여 전역 예산에서 예약한다.
+ * 업로드 요청은 헤더만 읽으므로 해상도만 확인하고, 실제로 픽셀을 디코딩하는 곳
+ * (업로드 후처리, 헤더에 크기가 없는 이미지의 전체 디코딩, 크기 변환 요청)에서만 예약한다.
+ * 요청 스레드는 예산이 부족하면 일정 시간 대기한 뒤 429로 거절하고, 후처리 작업은 예산이 생길 때까지 대기한다
+ */
+@Component
+@Slf4j
+public class UploadAdmission {
+
+    private static final long BYTES_PER_PIXEL = 4;
+
+    /*
+    Semaphore 허가 수는 int 범위이므로 KB 단위로 예약
+    */
+    private static final long PERMIT_UNIT_BYTES = 1024;
+
+    private final Semaphore budget;
+    private final int totalPermits;
+    private final int unknownSizePermits;
+    private final long maxWaitMillis;
+    private final int maxQueued;
+    private final long retryAfterSeconds;
+    private final AtomicInteger queued = new AtomicInteger();
+
+    private final Counter queuedCounter;
+    private final Counter admittedCounter;
+    private final Counter rejectedCounter;
+
+    public UploadAdmission(@Value("${upload.admission.memory-budget-bytes:536870912}") long budgetBytes,
+            @Value("${upload.admission.max-wait-ms:3000}") long maxWaitMillis,
+            @Value("${upload.admission.max-queued:32}") int maxQueued,
+            @Value("${upload.admission.retry-after-seconds:5}") long retryAfterSeconds,
+            @Value("${upload.admission.unknown-size-bytes:134217728}") long unknownSizeBytes,
+            MeterRegistry meterRegistry) {
+        this.totalPermits = (int) Math.min(Integer.MAX_VALUE, budgetBytes / PERMIT_UNIT_BYTES);
+        this.unknownSizePermits = (int) Math.max(1, Math.min(totalPermits, unknownSizeBytes / PERMIT_UNIT_BYTES));
+        this.budget = new Semaphore(totalPermits, true);
+        this.maxWaitMillis = maxWaitMillis;
+        this.maxQueued = maxQueued;
+        this.retryAfterSeconds = retryAfterSeconds;
+
+        this.queuedCounter = Counter.builder("upload.admission.queued")
+                .description("예산 부족으로 대기한 업로드 수")
+                .register(meterRegistry);
+        this.admittedCounter = Counter.builder("upload.admission.admitted")
+                .description("처리가 허용된 업로드 수")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("upload.admission.rejected")
+                .description("거절된 업로드 수")
+                .register(meterRegistry);
+        Gauge.builder("upload.admission.available.bytes", budget, b -> (double) b.availablePermits() * PERMIT_UNIT_BYTES)
+                .description("남은 메모리 예산")
+                .register(meterRegistry);
+        Gauge.builder("upload.admission.waiting", queued, AtomicInteger::get)
+                .description("예산을 기다리는 업로드 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 전체 예산으로도 처리할 수 없는 해상도면 400 (예약하지 않음)
+     */
+    public void checkResolution(int width, int height) {
+        if (estimatePermits(width, height) > totalPermits) {
+            rejectedCounter.increment();
+            throw new BadRequestException("이미지 해상도가 너무 큽니다");
+        }
+    }
+
+    /**
+     * 이미지 크기에 해당하는 메모리 예산 예약
+     * 반환된 Permit은 처리가 끝나면 반드시 close 해야 한다
+     */
+    public Permit admit(int width, int height) {
+        checkResolution(width, height);
+        return admitPermits(estimatePermits(width, height), width + "x" + height);
+    }
+
+    /**
+     * 헤더에서 크기를 알 수 없는 이미지를 전체 디코딩할 때 고정 크기(unknown-size-bytes) 예약
+     */
+    public Permit admitUnknownSize() {
+        return admitPermits(unknownSizePermits, "unknown size");
+    }
+
+    private Permit admitPermits(int permits, String size) {
+        if (budget.tryAcquire(permits)) {
+            admittedCounter.increment();
+            return new Permit(permits);
+        }
+
+        if (queued.incrementAndGet() > maxQueued) {
+            queued.decrementAndGet();
+            throw reject(size);
+        }
+
+        queuedCounter.increment();
+        try {
+            if (budget.tryAcquire(permits, maxWaitMillis, TimeUnit.MILLISECONDS)) {
+                admittedCounter.increment();
+                return new Permit(permits);
+            }
+            throw reject(size);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw reject(size);
+        } finally {
+            queued.decrementAndGet();
+        }
+    }
+
+    /**
+     * 백그라운드 작업용 - 예산이 생길 때까지 대기하여 예약 (요청 스레드에서는 admit 사용)
+     */
+    public Permit acquire(int width, int height) throws InterruptedException {
+        checkResolution(width, height);
+        int permits = estimatePermits(width, height);
+        budget.acquire(permits);
+        admittedCounter.increment();
+        return new Permit(permits);
+    }
+
+    private TooManyRequestsException reject(String size) {
+        rejectedCounter.increment();
+        log.warn("Image decode rejected, memory budget exhausted: {}", size);
+        return new TooManyRequestsException("이미지 처리 요청이 많습니다. 잠시 후 다시 시도해주세요", retryAfterSeconds);
+    }
+
+    private static int estimatePermits(int width, int height) {
+        long bytes = (long) width * height * BYTES_PER_PIXEL;
+        long permits = (bytes + PERMIT_UNIT_BYTES - 1) / PERMIT_UNIT_BYTES;
+        return (int) Math.min(Integer.MAX_VALUE, Math.max(1, permits));
+    }
+
+    /**
+     * 예약한 메모리 예산 (close 시 반환)
+     */
+    public final class Permit implements Closeable {
+
+        private final int permits;
+        private boolean released;
+
+        private Permit(int permits) {
+            this.permits = permits;
+        }
+
+        @Override
+        public void close() {
+            if (!released) {
+                released = true;
+                budget.release(permits);
+            }
+        }
+    }
+}
@@ -5,13 +5,20 @@ import lombok.extern.slf4j.Slf4j;
 import moe.solo.cloneUnsplash.dto.user.UserResponse;
 import moe.solo.cloneUnsplash.dto.user.UserUpdateRequest;
 import moe.solo.cloneUnsplash.entity.User;
+import moe.solo.cloneUnsplash.exception.BadRequestException;
 import moe.solo.cloneUnsplash.exception.ResourceNotFoundException;
 import moe.solo.cloneUnsplash.exception.UnauthorizedException;
+import moe.solo.cloneUnsplash.image.ImageProbe;
 import moe.solo.cloneUnsplash.repository.UserRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.InputStream;
+
 @Service
 @RequiredArgsConstructor
 @Slf4j
@@ -19,6 +26,8 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final S3Service s3Service;
+    private final S3AsyncService s3AsyncService;
+    private final UploadAdmission uploadAdmission;
 
     public UserResponse getUserByUsername(String username) {
         User user = userRepository.findByUsername(username)
@@ -35,15 +44,15 @@ public class UserService {
     }
 
     @Transactional
-    public UserResponse updateUser(Long userId, UserUpdateRequest request, String currentUsername) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("사용자를 찾을 수 없습니다"));
-
+    public UserResponse updateUser(Long userId, UserUpdateRequest request, Long currentUserId) {
         // 본인만 수정 가능
-        if (!user.getUsername().equals(currentUsername)) {
+        if (!userId.equals(currentUserId)) {
             throw new UnauthorizedException("본인의 프로필만 수정할 수 있습니다");
         }
 
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new ResourceNotFoundException("사용자를 찾을 수 없습니다"));
+
         if (request.getName() != null) {
             user.setName(request.getName());
         }
@@ -70,26 +79,31 @@ public class UserService {
     }
 
     @Transactional
-    public UserResponse updateProfileImage(Long userId, MultipartFile file, String currentUsername) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("사용자를 찾을 수 없습니다"));
-
-        if (!user.getUsername().equals(currentUsername)) {
+    public UserResponse updateProfileImage(Long userId, MultipartFile file, Long currentUserId) {
+        if (!userId.equals(currentUserId)) {
             throw new UnauthorizedException("본인의 프로필만 수정할 수 있습니다");
         }
 
-        // 기존 프로필 이미지 삭제
-        if (user.getProfileImageUrl() != null) {
-            try {
-                s3Service.deleteFile(user.getProfileImageUrl());
-            } catch (Exception e) {
-                log.warn("Failed to delete old profile image: {}", e.getMessage());
-            }
-        }
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new ResourceNotFoundException("사용자를 찾을 수 없습니다"));
 
-        // 새 프로필 이미지 업로드
+        // 헤더로 형식과 해상도만 확인하고 업로드 (업로드 중에는 픽셀을 디코딩하지 않음)
+        ImageProbe.ImageInfo image = probeImage(file);
+        uploadAdmission.checkResolution(image.width(), image.height());
         String imageUrl = s3Service.uploadFile(file, "profiles");
+
+        // 커밋되면 기존 이미지를, 롤백되면 새로 올린 이미지를 삭제 (응답을 기다리지 않음)
+        String previousUrl = user.getProfileImageUrl();
         user.setProfileImageUrl(imageUrl);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                String unused = status == STATUS_COMMITTED ? previousUrl : imageUrl;
+                if (unused != null) {
+                    deleteQuietly(unused);
+                }
+            }
+        });
 
         user = userRepository.save(user);
         log.info("Profile image updated for user: {}", user.getUsername());
@@ -97,6 +111,22 @@ public class UserService {
         return mapToUserResponse(user);
     }
 
+    private void deleteQuietly(String key) {
+        s3AsyncService.deleteFile(key)
+                .exceptionally(e -> {
+                    log.warn("Failed to delete profile image: {}", e.getMessage());
+                    return null;
+                });
+    }
+
+    private ImageProbe.ImageInfo probeImage(MultipartFile file) {
+        try (InputStream input = file.getInputStream()) {
+            return ImageProbe.probe(input, uploadAdmission::admitUnknownSize);
+        } catch (IOException e) {
+            throw new BadRequestException("유효하지 않은 이미지 파일입니다");
+        }
+    }
+
     private UserResponse mapToUserResponse(User user) {
         return UserResponse.builder()
                 .id(user.getId())
@@ -111,10 +141,10 @@ public class UserService {
                 .portfolioUrl(user.getPortfolioUrl())
                 .instagramUsername(user.getInstagramUsername())
                 .twitterUsername(user.getTwitterUsername())
-                .photosCount((long) user.getPhotos().size())
-                .collectionsCount((long) user.getCollections().size())
-                .followersCount((long) user.getFollowers().size())
-                .followingCount((long) user.getFollowing().size())
+                .photosCount(user.getPhotosCount())
+                .collectionsCount(user.getCollectionsCount())
+                .followersCount(user.getFollowersCount())
+                .followingCount(user.getFollowingCount())
                 .createdAt(user.getCreatedAt())
                 .build();
     }
@@ -0,0 +1,44 @@
+package moe.solo.cloneUnsplash.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import moe.solo.cloneUnsplash.repository.UserRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 사용자 프로필 통계 카운터 재계산
+ * 서비스에서 증감한 카운터가 실제 데이터와 어긋난 경우 집계 쿼리 결과로 보정한다 (시작 시 한 번, 이후 매일)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class UserStatsReconciler {
+
+    private final UserRepository userRepository;
+
+    @Scheduled(cron = "${user.stats.reconcile-cron:0 0 4 * * *}")
+    @Transactional
+    public void reconcile() {
+        reconcileStats();
+    }
+
+    /**
+     * 시작 시 한 번 재계산 (카운터 컬럼이 추가된 직후 기존 사용자가 0으로 채워진 상태를 다음 정기 작업 전에 보정)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void reconcileOnStartup() {
+        reconcileStats();
+    }
+
+    private void reconcileStats() {
+        int updated = userRepository.reconcileStats();
+        if (updated > 0) {
+            log.info("Reconciled profile stats for {} users", updated);
+        }
+    }
+}
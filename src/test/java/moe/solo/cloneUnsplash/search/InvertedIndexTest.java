@@ -0,0 +1,134 @@
+package moe.solo.cloneUnsplash.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InvertedIndexTest {
+
+	@Test
+	void tokenizeLowercasesAndSplitsOnNonLetters() {
+		assertThat(InvertedIndex.tokenize("Sunset, over the SEA-shore 2024!"))
+				.containsExactly("sunset", "over", "the", "sea", "shore", "2024");
+		assertThat(InvertedIndex.tokenize(null)).isEmpty();
+		assertThat(InvertedIndex.tokenize(" -- ")).isEmpty();
+	}
+
+	@Test
+	void putIndexesAllTextsAndSearchReturnsAscendingIds() {
+		InvertedIndex index = new InvertedIndex();
+		index.put(3, List.of("Mountain lake", "calm morning"));
+		index.put(1, List.of("Lake at night"));
+		index.put(2, List.of("City"));
+
+		assertThat(index.search("lake")).containsExactly(1, 3);
+		assertThat(index.search("MORNING")).containsExactly(3);
+		assertThat(index.search("desert")).isEmpty();
+		assertThat(index.search("  ")).isEmpty();
+		assertThat(index.size()).isEqualTo(3);
+	}
+
+	@Test
+	void putReplacesPreviousTokens() {
+		InvertedIndex index = new InvertedIndex();
+		index.put(1, List.of("red car"));
+		index.put(1, List.of("blue car"));
+
+		assertThat(index.search("red")).isEmpty();
+		assertThat(index.search("blue")).containsExactly(1);
+		assertThat(index.search("car")).containsExactly(1);
+		assertThat(index.size()).isEqualTo(1);
+	}
+
+	@Test
+	void removeDropsPhotoFromEveryPostingList() {
+		InvertedIndex index = new InvertedIndex();
+		index.put(1, List.of("forest path"));
+		index.put(2, List.of("forest"));
+		index.remove(1);
+		index.remove(99);
+
+		assertThat(index.contains(1)).isFalse();
+		assertThat(index.search("forest")).containsExactly(2);
+		assertThat(index.search("path")).isEmpty();
+		assertThat(index.search("pat")).isEmpty();
+	}
+
+	@Test
+	void lastTokenMatchesAsPrefixWithoutDuplicates() {
+		InvertedIndex index = new InvertedIndex();
+		index.put(1, List.of("sun sunset"));
+		index.put(2, List.of("sunflower"));
+		index.put(3, List.of("moon"));
+
+		assertThat(index.search("sun")).containsExactly(1, 2);
+		assertThat(index.search("suns")).containsExactly(1);
+		assertThat(index.search("su nothing")).isEmpty();
+	}
+
+	@Test
+	void prefixUnionMergesManyPostingLists() {
+		InvertedIndex index = new InvertedIndex();
+		for (long id = 1; id <= 30; id++) {
+			index.put(id, List.of("tag" + (id % 7), id % 2 == 0 ? "tag" : "other"));
+		}
+
+		long[] expected = new long[30];
+		for (int i = 0; i < 30; i++) {
+			expected[i] = i + 1;
+		}
+		assertThat(index.search("tag")).containsExactly(expected);
+		assertThat(index.search("tag3")).containsExactly(3, 10, 17, 24);
+	}
+
+	@Test
+	void shortLastTokenMatchesExactly() {
+		InvertedIndex index = new InvertedIndex();
+		index.put(1, List.of("ny"));
+		index.put(2, List.of("nyc skyline"));
+		index.put(3, List.of("skyline ny"));
+
+		// 최소 길이보다 짧은 마지막 토큰은 접두어로 펼치지 않음
+		assertThat(index.search("ny")).containsExactly(1, 3);
+		assertThat(index.search("skyline ny")).containsExactly(3);
+		assertThat(index.search("nyc")).containsExactly(2);
+	}
+
+	@Test
+	void earlierTokensMustMatchExactlyAndAreIntersected() {
+		InvertedIndex index = new InvertedIndex();
+		for (long id = 1; id <= 20; id++) {
+			index.put(id, List.of(id % 2 == 0 ? "beach even" : "beach odd", id % 3 == 0 ? "palm" : "rock"));
+		}
+
+		assertThat(index.search("beach even pal")).containsExactly(6, 12, 18);
+		assertThat(index.search("beach odd palm")).containsExactly(3, 9, 15);
+		// 앞 토큰은 접두어로 찾지 않음
+		assertThat(index.search("bea palm")).isEmpty();
+		// 접두어 결과가 가장 짧은 정확 일치 목록보다 많은 경우
+		assertThat(index.search("palm bea")).containsExactly(3, 6, 9, 12, 15, 18);
+		assertThat(index.search("even odd")).isEmpty();
+	}
+
+	@Test
+	void newestFirstSlicesPagesFromTheEnd() {
+		long[] ids = {2, 5, 7, 9, 11};
+
+		assertThat(InvertedIndex.newestFirst(ids, 0, 2)).containsExactly(11L, 9L);
+		assertThat(InvertedIndex.newestFirst(ids, 2, 2)).containsExactly(7L, 5L);
+		assertThat(InvertedIndex.newestFirst(ids, 4, 2)).containsExactly(2L);
+		assertThat(InvertedIndex.newestFirst(ids, 0, 10)).containsExactly(11L, 9L, 7L, 5L, 2L);
+	}
+
+	@Test
+	void newestFirstReturnsEmptyPageForOffsetsPastTheEnd() {
+		long[] ids = {2, 5, 7};
+
+		assertThat(InvertedIndex.newestFirst(ids, 3, 2)).isEmpty();
+		assertThat(InvertedIndex.newestFirst(ids, 100, 2)).isEmpty();
+		assertThat(InvertedIndex.newestFirst(ids, Long.MAX_VALUE, 2)).isEmpty();
+		assertThat(InvertedIndex.newestFirst(new long[0], 0, 2)).isEmpty();
+	}
+}
@@ -0,0 +1,61 @@
+package moe.solo.cloneUnsplash.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PostingListTest {
+
+	@Test
+	void addKeepsIdsSortedAndUnique() {
+		PostingList list = new PostingList();
+		for (long id : new long[] {5, 1, 9, 5, 3, 9, 10, 2}) {
+			list.add(id);
+		}
+
+		assertThat(list.toArray()).containsExactly(1, 2, 3, 5, 9, 10);
+		assertThat(list.size()).isEqualTo(6);
+		assertThat(list.contains(3)).isTrue();
+		assertThat(list.contains(4)).isFalse();
+	}
+
+	@Test
+	void removeShiftsRemainingIds() {
+		PostingList list = new PostingList();
+		list.add(1);
+		list.add(2);
+		list.add(3);
+		list.remove(2);
+		list.remove(7);
+
+		assertThat(list.toArray()).containsExactly(1, 3);
+		list.remove(1);
+		list.remove(3);
+		assertThat(list.isEmpty()).isTrue();
+	}
+
+	@Test
+	void retainAllKeepsOnlyCandidatesInTheList() {
+		PostingList list = new PostingList();
+		for (long id = 2; id <= 20; id += 2) {
+			list.add(id);
+		}
+
+		long[] candidates = {1, 2, 3, 4, 15, 20, 21, 22};
+		assertThat(list.retainAll(candidates, candidates.length)).containsExactly(2, 4, 20);
+		// 길이만큼만 사용
+		assertThat(list.retainAll(candidates, 3)).containsExactly(2);
+		assertThat(new PostingList().retainAll(candidates, candidates.length)).isEmpty();
+	}
+
+	@Test
+	void copyIntoWritesAtOffset() {
+		PostingList list = new PostingList();
+		list.add(7);
+		list.add(8);
+		long[] target = new long[4];
+		list.copyInto(target, 1);
+
+		assertThat(target).containsExactly(0, 7, 8, 0);
+	}
+}
@@ -0,0 +1,88 @@
+package moe.solo.cloneUnsplash.search;
+
+import moe.solo.cloneUnsplash.search.PrefixSuggester.Suggestion;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PrefixSuggesterTest {
+
+	@Test
+	void emptyIndexSuggestsNothing() {
+		PrefixSuggester suggester = PrefixSuggester.empty();
+
+		assertThat(suggester.size()).isZero();
+		assertThat(suggester.contains("a")).isFalse();
+		assertThat(suggester.suggest("a", 5)).isEmpty();
+		assertThat(suggester.suggest("", 5)).isEmpty();
+	}
+
+	@Test
+	void singleEntry() {
+		PrefixSuggester suggester = new PrefixSuggester(List.of(new Suggestion("Nature", 3)));
+
+		assertThat(suggester.suggest("na", 5)).containsExactly(new Suggestion("Nature", 3));
+		assertThat(suggester.suggest("nb", 5)).isEmpty();
+		assertThat(suggester.contains("NATURE")).isTrue();
+	}
+
+	@Test
+	void tiesAreOrderedByName() {
+		PrefixSuggester suggester = new PrefixSuggester(List.of(
+				new Suggestion("cat", 2),
+				new Suggestion("car", 5),
+				new Suggestion("cab", 2),
+				new Suggestion("Cap", 2),
+				new Suggestion("cow", 5)));
+
+		assertThat(suggester.suggest("c", 10)).extracting(Suggestion::name)
+				.containsExactly("car", "cow", "cab", "Cap", "cat");
+		assertThat(suggester.suggest("ca", 3)).extracting(Suggestion::name)
+				.containsExactly("car", "cab", "Cap");
+	}
+
+	@Test
+	void matchesBruteForceForSizesThatAreNotPowersOfTwo() {
+		Random random = new Random(42);
+		for (int size = 1; size <= 70; size++) {
+			List<Suggestion> entries = new ArrayList<>();
+			for (int i = 0; i < size; i++) {
+				// 짧은 이름과 좁은 횟수 범위로 접두어 공유와 동점을 자주 만듦
+				entries.add(new Suggestion(randomName(random, i), random.nextInt(4)));
+			}
+			PrefixSuggester suggester = new PrefixSuggester(entries);
+
+			for (String prefix : List.of("", "a", "b", "ab", "ba", "c", "abc", "z")) {
+				for (int limit : List.of(1, 3, 7, 100)) {
+					assertThat(suggester.suggest(prefix, limit))
+							.as("size %d, prefix '%s', limit %d", size, prefix, limit)
+							.containsExactlyElementsOf(bruteForce(entries, prefix, limit));
+				}
+			}
+		}
+	}
+
+	private static String randomName(Random random, int unique) {
+		StringBuilder name = new StringBuilder();
+		int length = 1 + random.nextInt(3);
+		for (int i = 0; i < length; i++) {
+			name.append((char) ('a' + random.nextInt(3)));
+		}
+		return name.append(unique).toString();
+	}
+
+	private static List<Suggestion> bruteForce(List<Suggestion> entries, String prefix, int limit) {
+		return entries.stream()
+				.filter(entry -> PrefixSuggester.key(entry.name()).startsWith(prefix))
+				.sorted(Comparator.comparingLong(Suggestion::count).reversed()
+						.thenComparing(entry -> PrefixSuggester.key(entry.name())))
+				.limit(limit)
+				.collect(Collectors.toList());
+	}
+}
@@ -0,0 +1,145 @@
+package moe.solo.cloneUnsplash.service;
+
+import jakarta.persistence.EntityManager;
+import moe.solo.cloneUnsplash.entity.Like;
+import moe.solo.cloneUnsplash.entity.Photo;
+import moe.solo.cloneUnsplash.entity.Tag;
+import moe.solo.cloneUnsplash.entity.User;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 사진 목록 조회가 페이지 크기와 관계없이 일정한 수의 SQL만 실행하는지 검증
+ */
+@DataJpaTest(properties = {
+		"spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+		"spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import(PhotoService.class)
+class PhotoServiceQueryCountTest {
+
+	/*
+	ID 페이지, count, 사진+업로더+태그 로딩, 좋아요 여부 조회
+	*/
+	private static final long STATEMENTS_PER_PAGE = 4;
+
+	@Autowired
+	private PhotoService photoService;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@MockitoBean
+	private S3Service s3Service;
+
+	@MockitoBean
+	private S3AsyncService s3AsyncService;
+
+	@MockitoBean
+	private PhotoViewCountBuffer viewCountBuffer;
+
+	@MockitoBean
+	private UploadAdmission uploadAdmission;
+
+	@MockitoBean
+	private PhotoFullTextIndex fullTextIndex;
+
+	@MockitoBean
+	private PhotoSearchEngine searchEngine;
+
+	@MockitoBean
+	private PhotoTagIndex tagIndex;
+
+	@MockitoBean
+	private TagResolver tagResolver;
+
+	private Statistics statistics;
+
+	private Long viewerId;
+
+	@BeforeEach
+	void setUp() {
+		User uploader = persist(User.builder()
+				.username("uploader")
+				.email("uploader@example.com")
+				.password("password")
+				.build());
+		User viewer = persist(User.builder()
+				.username("viewer")
+				.email("viewer@example.com")
+				.password("password")
+				.build());
+		viewerId = viewer.getId();
+		List<Tag> tags = List.of(
+				persist(Tag.builder().name("nature").build()),
+				persist(Tag.builder().name("city").build()));
+
+		for (int i = 0; i < 30; i++) {
+			Photo photo = Photo.builder()
+					.title("photo " + i)
+					.imageUrl("photos/" + i + ".jpg")
+					.width(100)
+					.height(100)
+					.user(uploader)
+					.build();
+			photo.getTags().addAll(tags);
+			persist(photo);
+
+			if (i % 2 == 0) {
+				persist(Like.builder().user(viewer).photo(photo).build());
+			}
+		}
+
+		entityManager.flush();
+		entityManager.clear();
+
+		statistics = entityManager.getEntityManagerFactory()
+				.unwrap(SessionFactory.class)
+				.getStatistics();
+	}
+
+	@Test
+	void getPhotosRunsConstantStatementsPerPage() {
+		long small = countStatements(() -> photoService.getPhotos(PageRequest.of(0, 5), viewerId));
+		long large = countStatements(() -> photoService.getPhotos(PageRequest.of(0, 20), viewerId));
+
+		assertThat(small).isEqualTo(STATEMENTS_PER_PAGE);
+		assertThat(large).isEqualTo(STATEMENTS_PER_PAGE);
+	}
+
+	@Test
+	void getPhotosByTagRunsConstantStatementsPerPage() {
+		long small = countStatements(() -> photoService.getPhotosByTag("nature", PageRequest.of(0, 5), viewerId));
+		long large = countStatements(() -> photoService.getPhotosByTag("nature", PageRequest.of(0, 20), viewerId));
+
+		assertThat(small).isEqualTo(STATEMENTS_PER_PAGE);
+		assertThat(large).isEqualTo(STATEMENTS_PER_PAGE);
+	}
+
+	private <T> T persist(T entity) {
+		entityManager.persist(entity);
+		return entity;
+	}
+
+	private long countStatements(Supplier<?> action) {
+		entityManager.clear();
+		statistics.clear();
+
+		Object result = action.get();
+		assertThat(result).isNotNull();
+
+		return statistics.getPrepareStatementCount();
+	}
+}
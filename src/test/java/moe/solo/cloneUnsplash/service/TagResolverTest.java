@@ -0,0 +1,193 @@
+package moe.solo.cloneUnsplash.service;
+
+import jakarta.persistence.EntityManager;
+import moe.solo.cloneUnsplash.entity.Photo;
+import moe.solo.cloneUnsplash.entity.Tag;
+import moe.solo.cloneUnsplash.entity.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 태그 일괄 조회/생성 (INSERT ... ON CONFLICT ... RETURNING) 검증 - PostgreSQL 전용 SQL이므로 컨테이너에서 실행
+ * 동시 생성 확인을 위해 테스트 트랜잭션 없이 직접 커밋한다
+ */
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=create-drop")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(TagResolver.class)
+class TagResolverTest {
+
+	@Container
+	@ServiceConnection
+	static PostgreSQLContainer postgres = new PostgreSQLContainer("postgres:16-alpine");
+
+	@Autowired
+	private TagResolver tagResolver;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@MockitoBean
+	private TagSuggestionService tagSuggestionService;
+
+	@AfterEach
+	void tearDown() {
+		jdbcTemplate.update("DELETE FROM photo_tags");
+		jdbcTemplate.update("DELETE FROM photos");
+		jdbcTemplate.update("DELETE FROM users");
+		jdbcTemplate.update("DELETE FROM tags");
+	}
+
+	@Test
+	void resolveCreatesMissingTagsAndKeepsRequestOrder() {
+		jdbcTemplate.update("INSERT INTO tags (name) VALUES ('resolve-existing')");
+
+		List<Tag> tags = inTransaction(() -> tagResolver.resolve(
+				List.of("resolve-new", "resolve-existing", "resolve-new")));
+
+		assertThat(tags).extracting(Tag::getName).containsExactly("resolve-new", "resolve-existing");
+		assertThat(tags).allSatisfy(tag -> assertThat(tag.getId()).isNotNull());
+		assertThat(tagIdsByName()).containsEntry("resolve-new", tags.get(0).getId())
+				.containsEntry("resolve-existing", tags.get(1).getId());
+		verify(tagSuggestionService).tagCreated("resolve-new");
+		verify(tagSuggestionService, never()).tagCreated("resolve-existing");
+	}
+
+	@Test
+	void rolledBackTagsAreNotSuggested() {
+		TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+		transaction.executeWithoutResult(status -> {
+			tagResolver.resolve(List.of("rollback-tag"));
+			status.setRollbackOnly();
+		});
+
+		assertThat(tagIdsByName()).doesNotContainKey("rollback-tag");
+		verify(tagSuggestionService, never()).tagCreated("rollback-tag");
+
+		// 롤백된 ID가 캐시에 남지 않았으면 다시 만들어진다
+		List<Tag> tags = inTransaction(() -> tagResolver.resolve(List.of("rollback-tag")));
+		assertThat(tagIdsByName()).containsEntry("rollback-tag", tags.get(0).getId());
+	}
+
+	@Test
+	void concurrentlyCreatedTagIsReselected() throws Exception {
+		TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+		CompletableFuture<List<Tag>> second = new CompletableFuture<>();
+
+		List<Tag> first = transaction.execute(status -> {
+			List<Tag> created = tagResolver.resolve(List.of("race-shared"));
+
+			// 다른 트랜잭션이 커밋되지 않은 같은 이름을 INSERT 하여 유니크 인덱스에서 대기하게 함
+			CompletableFuture.runAsync(() -> {
+				try {
+					second.complete(inTransaction(() -> tagResolver.resolve(List.of("race-shared", "race-other"))));
+				} catch (Throwable e) {
+					second.completeExceptionally(e);
+				}
+			});
+			awaitLockWaiter();
+			return created;
+		});
+
+		List<Tag> tags = second.get(10, TimeUnit.SECONDS);
+		assertThat(tags).extracting(Tag::getName).containsExactly("race-shared", "race-other");
+		assertThat(tags.get(0).getId()).isEqualTo(first.get(0).getId());
+		assertThat(tagIdsByName()).hasSize(2);
+	}
+
+	@Test
+	void resolvedTagsCanBeAttachedToAPhoto() {
+		Long photoId = inTransaction(() -> {
+			User user = User.builder()
+					.username("tagger")
+					.email("tagger@example.com")
+					.password("password")
+					.build();
+			entityManager.persist(user);
+
+			Photo photo = Photo.builder()
+					.title("tagged")
+					.imageUrl("photos/tagged.jpg")
+					.width(100)
+					.height(100)
+					.user(user)
+					.build();
+			photo.getTags().addAll(tagResolver.resolve(List.of("attach-a", "attach-b")));
+			entityManager.persist(photo);
+			return photo.getId();
+		});
+
+		List<String> names = jdbcTemplate.queryForList(
+				"SELECT t.name FROM photo_tags pt JOIN tags t ON t.id = pt.tag_id WHERE pt.photo_id = ? ORDER BY t.name",
+				String.class, photoId);
+		assertThat(names).containsExactly("attach-a", "attach-b");
+	}
+
+	private <T> T inTransaction(Supplier<T> action) {
+		return new TransactionTemplate(transactionManager).execute(status -> action.get());
+	}
+
+	private Map<String, Long> tagIdsByName() {
+		return jdbcTemplate.queryForList("SELECT id, name FROM tags").stream()
+				.collect(Collectors.toMap(row -> (String) row.get("name"), row -> ((Number) row.get("id")).longValue()));
+	}
+
+	/*
+	다른 트랜잭션의 태그 INSERT가 커밋되지 않은 같은 이름의 잠금을 기다릴 때까지 대기 (시간 내에 없으면 실패)
+	*/
+	private void awaitLockWaiter() {
+		long deadline = System.currentTimeMillis() + 10000;
+		while (System.currentTimeMillis() < deadline) {
+			Integer waiting = jdbcTemplate.queryForObject("""
+					SELECT COUNT(*) FROM pg_stat_activity
+					WHERE datname = current_database()
+					  AND pid <> pg_backend_pid()
+					  AND wait_event_type = 'Lock'
+					  AND query LIKE 'INSERT INTO tags%'
+					""", Integer.class);
+			if (waiting != null && waiting > 0) {
+				return;
+			}
+			try {
+				Thread.sleep(20);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				break;
+			}
+		}
+		fail("No concurrent tag INSERT waited on the uncommitted tag");
+	}
+}
@@ -0,0 +1,46 @@
+package moe.solo.cloneUnsplash.service;
+
+import moe.solo.cloneUnsplash.dto.tag.TagSuggestionResponse;
+import moe.solo.cloneUnsplash.repository.TagRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TagSuggestionServiceTest {
+
+	private final TagRepository tagRepository = mock(TagRepository.class);
+
+	private final TagSuggestionService service = new TagSuggestionService(tagRepository);
+
+	@Test
+	void createdTagSurvivesRebuildThatDidNotSeeIt() {
+		when(tagRepository.findAllNamesWithPhotoCount()).thenReturn(List.<Object[]>of(new Object[] { "street", 4L }));
+		service.rebuild();
+
+		// 재구축 조회 이후에 커밋된 태그
+		service.tagCreated("Sunset");
+		service.rebuild();
+
+		assertThat(service.suggest("s", 10)).extracting(TagSuggestionResponse::getName)
+				.containsExactly("street", "Sunset");
+	}
+
+	@Test
+	void rebuildReplacesCreatedTagWithSnapshotCount() {
+		when(tagRepository.findAllNamesWithPhotoCount()).thenReturn(List.of());
+		service.rebuild();
+		service.tagCreated("Sunset");
+
+		when(tagRepository.findAllNamesWithPhotoCount()).thenReturn(List.<Object[]>of(new Object[] { "Sunset", 7L }));
+		service.rebuild();
+
+		assertThat(service.suggest("sun", 10)).singleElement().satisfies(suggestion -> {
+			assertThat(suggestion.getName()).isEqualTo("Sunset");
+			assertThat(suggestion.getPhotosCount()).isEqualTo(7L);
+		});
+	}
+}